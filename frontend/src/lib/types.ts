@@ -31,6 +31,24 @@ export interface Article {
 	approvedBy?: string;
 }
 
+// List-view row returned by GET /api/articles and /api/articles/cursor (no full content)
+export interface ArticleSummary {
+	id: string;
+	title: string;
+	excerpt: string;
+	featuredImage?: string;
+	status: ArticleStatus;
+	isPublished: boolean;
+	publishedAt?: string;
+	feedback?: string;
+	createdAt: string;
+	updatedAt: string;
+	wordCount?: number;
+	latestDecision?: AnalysisDecision;
+	latestConfidenceScore?: number;
+	latestAnalyzedAt?: string;
+}
+
 export interface CreateArticleRequest {
 	title: string;
 	content: string;
@@ -79,7 +97,17 @@ export interface PaginatedResponse<T> {
 	totalPages: number;
 }
 
-export type ArticlesResponse = PaginatedResponse<Article>;
+export interface CursorPage<T> {
+	content: T[];
+	size: number;
+	numberOfElements: number;
+	nextCursor?: string;
+	hasNext: boolean;
+	totalElements?: number;
+	totalExact: boolean;
+}
+
+export type ArticlesResponse = PaginatedResponse<ArticleSummary>;
 
 // Form states using Svelte 5 runes
 export interface ArticleFormState {
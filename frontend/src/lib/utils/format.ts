@@ -89,7 +89,10 @@ export function wordCount(text: string): number {
 }
 
 export function estimateReadingTime(text: string): string {
-	const words = wordCount(text);
+	return readingTimeFromWords(wordCount(text));
+}
+
+export function readingTimeFromWords(words: number): string {
 	const wordsPerMinute = 200;
 	const minutes = Math.ceil(words / wordsPerMinute);
 	return `${minutes} min read`;
@@ -0,0 +1,115 @@
+package com.regisx001.validationsystem.benchmarks;
+
+import java.util.Random;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.regisx001.validationsystem.config.AiConfig;
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.utils.AnalysisMetrics;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Deterministic inputs shared by the benchmarks, sized like the articles the API accepts (30 to 10000 words)
+final class BenchmarkFixtures {
+
+    static final String MODEL = "benchmark-model";
+
+    private static final String[] WORDS = {
+            "the", "a", "of", "and", "to", "in", "is", "that", "for", "it", "with", "as", "on", "this", "by",
+            "content", "platform", "readers", "article", "approach", "performance", "database", "request",
+            "analysis", "quality", "moderation", "editorial", "structure", "paragraph", "example", "practical",
+            "developers", "application", "measurement", "throughput", "latency", "important", "consider",
+            "however", "therefore", "because", "different", "improvement", "significantly", "configuration",
+            "https://example.com/docs", "2024", "well-known", "e.g.", "API", "JSON", "Postgres"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    static ArticleUtils articleUtils() {
+        ArticleUtils utils = new ArticleUtils(new AiConfig().aiAnalysisConfig(), new ObjectMapper(),
+                new AnalysisMetrics(new SimpleMeterRegistry()), new AnalysisPromptConfig());
+        ReflectionTestUtils.setField(utils, "model", MODEL);
+        return utils;
+    }
+
+    static Article article(int words) {
+        return Article.builder()
+                .title("Benchmark article with " + words + " words")
+                .content(content(words, new Random(words)))
+                .build();
+    }
+
+    // Sentences of 8 to 24 words, paragraphs of 3 to 7 sentences
+    private static String content(int words, Random random) {
+        StringBuilder text = new StringBuilder(words * 8);
+        int sentenceLeft = 8 + random.nextInt(17);
+        int paragraphLeft = 3 + random.nextInt(5);
+        boolean sentenceStart = true;
+        for (int i = 0; i < words; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (sentenceStart) {
+                word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+            }
+            text.append(word);
+
+            sentenceStart = --sentenceLeft == 0 || i == words - 1;
+            if (sentenceStart) {
+                text.append('.');
+                sentenceLeft = 8 + random.nextInt(17);
+                if (--paragraphLeft == 0) {
+                    text.append("\n\n");
+                    paragraphLeft = 3 + random.nextInt(5);
+                    continue;
+                }
+            }
+            text.append(' ');
+        }
+        return text.toString().strip();
+    }
+
+    // A complete, well-formed reply in the shape the analysis prompt asks for
+    static String analysisResponse() {
+        return """
+                {
+                  "overallScore": 0.82,
+                  "recommendation": "APPROVED",
+                  "feedback": "A clear, well-structured article with practical examples. A few long sentences \
+                could be split and the introduction could state the goal earlier.",
+                  "recommendations": [
+                    "Split sentences longer than 30 words",
+                    "State the article's goal in the first paragraph",
+                    "Add alt text to the featured image"
+                  ],
+                  "contentQuality": {
+                    "score": 0.85,
+                    "feedback": "Accurate and relevant, with concrete examples."
+                  },
+                  "grammar": {
+                    "score": 0.9,
+                    "feedback": "Minor punctuation issues.",
+                    "issues": ["Missing comma after introductory clause", "Inconsistent list punctuation"]
+                  },
+                  "seo": {
+                    "score": 0.7,
+                    "suggestions": ["Use the main keyword in the title", "Add a meta description"]
+                  },
+                  "appropriateness": {
+                    "score": 0.95,
+                    "feedback": "Suitable for a general audience."
+                  },
+                  "flaggedIssues": [],
+                  "estimatedReadTime": 6
+                }
+                """;
+    }
+
+    // The same reply wrapped the way models often return it, which the strict parser rejects
+    static String fencedAnalysisResponse() {
+        return "Here is the analysis of the article:\n\n```json\n" + analysisResponse() + "```\n";
+    }
+}
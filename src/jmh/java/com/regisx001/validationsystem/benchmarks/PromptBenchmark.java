@@ -0,0 +1,58 @@
+package com.regisx001.validationsystem.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.regisx001.validationsystem.config.AIPromptTemplates;
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptBenchmark {
+
+    // The single-message prompt as it was assembled before templates were compiled
+    private static final String REPLACE_TEMPLATE = AIPromptTemplates.CONTENT_ANALYSIS_INSTRUCTIONS + "\n"
+            + AIPromptTemplates.CONTENT_ANALYSIS_INPUT;
+
+    @Param({ "30", "300", "1500", "5000", "10000" })
+    private int words;
+
+    private ArticleUtils utils;
+    private Article article;
+
+    @Setup
+    public void setUp() {
+        utils = BenchmarkFixtures.articleUtils();
+        article = BenchmarkFixtures.article(words);
+    }
+
+    // Includes the content token budget, which cuts the 10000-word article
+    @Benchmark
+    public ChatPrompt buildAnalysisPrompt() {
+        return utils.buildAnalysisPrompt(article);
+    }
+
+    @Benchmark
+    public ChatPrompt buildChunkAnalysisPrompt() {
+        return utils.buildChunkAnalysisPrompt(article.getTitle(), article.getContent());
+    }
+
+    // Baseline: chained String.replace, which copies the content once per placeholder
+    @Benchmark
+    public String replaceBaseline() {
+        return REPLACE_TEMPLATE
+                .replace("{title}", article.getTitle())
+                .replace("{content}", article.getContent());
+    }
+}
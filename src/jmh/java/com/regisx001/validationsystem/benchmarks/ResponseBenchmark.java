@@ -0,0 +1,51 @@
+package com.regisx001.validationsystem.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.entities.AnalyseResult;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+// Parsing does not depend on article length; the fenced variant measures the fallback path
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseBenchmark {
+
+    @Param({ "json", "fenced" })
+    private String reply;
+
+    private ArticleUtils utils;
+    private Article article;
+    private String rawResponse;
+    private AIAnalysisResponse response;
+
+    @Setup
+    public void setUp() {
+        utils = BenchmarkFixtures.articleUtils();
+        article = BenchmarkFixtures.article(1500);
+        rawResponse = "fenced".equals(reply) ? BenchmarkFixtures.fencedAnalysisResponse()
+                : BenchmarkFixtures.analysisResponse();
+        response = utils.parseAIResponse(rawResponse);
+    }
+
+    @Benchmark
+    public AIAnalysisResponse parseAIResponse() {
+        return utils.parseAIResponse(rawResponse);
+    }
+
+    @Benchmark
+    public AnalyseResult buildApprovalResult() {
+        return utils.buildApprovalResult(article, response, 1200);
+    }
+}
@@ -0,0 +1,38 @@
+package com.regisx001.validationsystem.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+
+    @Param({ "30", "300", "1500", "5000", "10000" })
+    private int words;
+
+    private ArticleUtils utils;
+    private Article article;
+
+    @Setup
+    public void setUp() {
+        utils = BenchmarkFixtures.articleUtils();
+        article = BenchmarkFixtures.article(words);
+    }
+
+    @Benchmark
+    public boolean isValidForAnalysis() {
+        return utils.isValidForAnalysis(article);
+    }
+}
@@ -3,13 +3,17 @@ package com.regisx001.validationsystem;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableAsync
+@EnableScheduling
 @SpringBootApplication
 @EntityScan("com.regisx001.validationsystem.domain.entities")
 @EnableJpaRepositories("com.regisx001.validationsystem.repositories")
+@ConfigurationPropertiesScan("com.regisx001.validationsystem.config")
 public class ValidationsystemApplication {
 
 	public static void main(String[] args) {
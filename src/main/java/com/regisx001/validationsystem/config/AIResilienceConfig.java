@@ -0,0 +1,55 @@
+package com.regisx001.validationsystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.resilience")
+public class AIResilienceConfig {
+
+    private RateLimit rateLimit = new RateLimit();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Data
+    public static class RateLimit {
+        private boolean enabled = true;
+
+        private double initialRequestsPerSecond = 5;
+
+        private double minRequestsPerSecond = 0.5;
+
+        private double maxRequestsPerSecond = 20;
+
+        // Added to the rate on each fast response, divided by the current rate so growth slows as it
+        // rises; and the factor applied on throttling or a slow response
+        private double additiveIncrease = 0.5;
+
+        private double multiplicativeDecrease = 0.5;
+
+        // Responses slower than this count as back-pressure, like a 429
+        private Duration latencyTarget = Duration.ofSeconds(10);
+
+        private int tokensPerMinute = 30000;
+
+        // Expected completion size, reserved on top of the prompt estimate
+        private int completionTokenEstimate = 400;
+
+        // Callers that would wait longer than this fail fast with AIUnavailableException
+        private Duration maxWait = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+
+        private int failureThreshold = 5;
+
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        private int halfOpenProbes = 1;
+    }
+}
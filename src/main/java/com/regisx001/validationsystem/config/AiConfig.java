@@ -24,11 +24,6 @@ public class AiConfig {
 
     @Bean
     ChatClient ChatClient(ChatModel chatModel) {
-        return ChatClient.builder(chatModel).defaultSystem("""
-                You are an expert content reviewer for a blog platform.
-                Your task is to analyze articles for quality, appropriateness, and adherence to editorial standards.
-                Always provide constructive feedback and specific recommendations for improvement.
-                Respond in JSON format with structured analysis results.
-                """).build();
+        return ChatClient.builder(chatModel).defaultSystem(AIPromptTemplates.SYSTEM_PROMPT).build();
     }
 }
@@ -0,0 +1,30 @@
+package com.regisx001.validationsystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.batch")
+public class AnalysisBatchConfig {
+    private boolean enabled = true;
+
+    // Only articles whose estimated content size is at most this many tokens are batched
+    private int maxArticleTokens = 400;
+
+    // How long the first pending article waits for others to join its batch
+    private Duration window = Duration.ofMillis(200);
+
+    private int maxBatchSize = 8;
+
+    // Estimated article tokens per batched request
+    private int tokenBudget = 2400;
+
+    // Batched articles from different authors share one prompt, so text written to sway the model could
+    // skew its neighbours' verdicts. Articles are not attributed to authors here, so instead only content
+    // the pre-screen found clean is batched: no banned terms and at most this spam score. The rest is
+    // analysed on its own, at the cost of one call each.
+    private double maxSpamScore = 0.2;
+}
@@ -0,0 +1,14 @@
+package com.regisx001.validationsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.cache")
+public class AnalysisCacheConfig {
+    private boolean enabled = true;
+
+    // Upper bound of the in-memory tier, older entries are evicted in LRU order
+    private int maxEntries = 5000;
+}
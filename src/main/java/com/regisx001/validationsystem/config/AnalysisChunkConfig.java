@@ -0,0 +1,30 @@
+package com.regisx001.validationsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.incremental")
+public class AnalysisChunkConfig {
+    private boolean enabled = true;
+
+    // Articles estimated above this size are analysed section by section
+    private int minArticleTokens = 1500;
+
+    // Consecutive short paragraphs are grouped until a section reaches this size
+    private int minChunkTokens = 150;
+
+    // Hard cap per section; larger paragraphs are split at sentence boundaries
+    private int maxChunkTokens = 2000;
+
+    // Average section size. Boundaries are anchored on paragraph content rather than resized to the article,
+    // so a long article gets more sections, not larger ones, and an edit never reshards the rest of it.
+    private int targetChunkTokens = 600;
+
+    // Sections of one article analysed concurrently
+    private int parallelism = 8;
+
+    // Queue a re-analysis when updateArticle changes the title or content
+    private boolean reanalyseOnUpdate = true;
+}
@@ -0,0 +1,32 @@
+package com.regisx001.validationsystem.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.executor")
+public class AnalysisExecutorConfig {
+
+    public enum Mode {
+        // Bounded platform-thread pool, concurrency capped by pool size
+        PLATFORM,
+        // One virtual thread per analysis, concurrency capped by provider permits
+        VIRTUAL
+    }
+
+    private Mode mode = Mode.PLATFORM;
+
+    // Concurrent LLM calls allowed per model when no explicit entry exists
+    private int defaultPermits = 50;
+
+    // Per-model overrides, e.g. llama3-8b-8192: 20
+    private Map<String, Integer> providerPermits = new HashMap<>();
+
+    public int permitsFor(String model) {
+        return providerPermits.getOrDefault(model, defaultPermits);
+    }
+}
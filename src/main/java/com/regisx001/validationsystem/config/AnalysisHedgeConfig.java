@@ -0,0 +1,32 @@
+package com.regisx001.validationsystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.hedge")
+public class AnalysisHedgeConfig {
+    private boolean enabled = true;
+
+    // A second request is sent once the first has been at the provider longer than this
+    // percentile of recent provider round trips; time queued locally counts towards neither
+    private double percentile = 0.95;
+
+    private Duration minDelay = Duration.ofSeconds(1);
+
+    // Used until minSamples latencies have been observed
+    private Duration initialDelay = Duration.ofSeconds(8);
+
+    private int minSamples = 20;
+
+    private int windowSize = 256;
+
+    // Model for the hedged request; blank hedges against the primary model
+    private String fallbackModel = "";
+
+    // Hedges allowed per primary request, so a slow provider is not hit with twice the load
+    private double maxHedgeRatio = 0.1;
+}
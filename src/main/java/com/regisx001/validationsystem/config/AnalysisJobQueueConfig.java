@@ -0,0 +1,25 @@
+package com.regisx001.validationsystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.queue")
+public class AnalysisJobQueueConfig {
+    // When disabled, analyses fall back to the in-memory @Async executor
+    private boolean enabled = true;
+
+    // Polling workers in PLATFORM executor mode; VIRTUAL mode runs one job per provider permit instead
+    private int workerConcurrency = 4;
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    // How long a claimed job stays invisible to other workers before it is considered abandoned
+    private Duration visibilityTimeout = Duration.ofMinutes(5);
+
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofSeconds(10);
+    private Duration maxBackoff = Duration.ofMinutes(10);
+}
@@ -0,0 +1,26 @@
+package com.regisx001.validationsystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.persistence")
+public class AnalysisPersistenceConfig {
+    // Off: every outcome is written in its own transaction on the calling thread
+    private boolean writeBehind = true;
+
+    // A batch is flushed when it reaches this many outcomes...
+    private int maxBatchSize = 100;
+
+    // ...or when its first outcome has waited this long
+    private Duration maxDelay = Duration.ofMillis(20);
+
+    private int queueCapacity = 10000;
+
+    // Callers block until their batch has committed. Turning this off trades durability
+    // (outcomes still queued are lost on a crash) for not waiting on the flush.
+    private boolean awaitCommit = true;
+}
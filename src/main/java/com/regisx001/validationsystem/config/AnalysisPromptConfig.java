@@ -0,0 +1,20 @@
+package com.regisx001.validationsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.prompt")
+public class AnalysisPromptConfig {
+    // Content beyond this estimate is cut from the middle of the article before a single-call
+    // analysis; 0 disables the limit. Long articles normally take the chunked path instead.
+    private int maxContentTokens = 6000;
+
+    // Share of the kept content taken from the start of the article; the rest comes from the end
+    private double headShare = 0.7;
+
+    // A reply missing required fields gets one short follow-up call asking for just those fields
+    // instead of falling back to manual review
+    private boolean repairMissingFields = true;
+}
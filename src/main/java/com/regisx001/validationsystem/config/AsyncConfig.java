@@ -4,21 +4,37 @@ import java.util.concurrent.Executor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
     @Bean(name = "taskExecutor")
-    Executor taskExecutor() {
+    Executor taskExecutor(AnalysisExecutorConfig executorConfig, MeterRegistry meterRegistry) {
+        if (executorConfig.getMode() == AnalysisExecutorConfig.Mode.VIRTUAL) {
+            // Analyses mostly wait on the LLM HTTP call; concurrency is bounded by
+            // ProviderConcurrencyLimiter permits rather than by a pool size
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("AsyncVirtual-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4); // Increase as needed
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("AsyncThread-");
         executor.initialize();
+        // executor.active / executor.queued show when analyses wait on the pool rather than the provider
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "taskExecutor", Tags.empty())
+                .bindTo(meterRegistry);
         return executor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.regisx001.validationsystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.retention")
+public class PartitionRetentionConfig {
+
+    public enum Mode {
+        DROP,
+        // Leave the partition as a standalone table to be archived and dropped externally
+        DETACH
+    }
+
+    private boolean enabled = true;
+
+    // Monthly partitions entirely older than this many months are removed
+    private int retainMonths = 12;
+
+    // Partitions created ahead of the current month
+    private int premakeMonths = 3;
+
+    private Mode mode = Mode.DROP;
+
+    private String cron = "0 30 3 * * *";
+}
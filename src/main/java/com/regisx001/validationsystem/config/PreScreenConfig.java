@@ -0,0 +1,23 @@
+package com.regisx001.validationsystem.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.prescreen")
+public class PreScreenConfig {
+    private boolean enabled = true;
+
+    // Matched case-insensitively on word boundaries; multi-word terms are allowed
+    private List<String> bannedTerms = new ArrayList<>();
+
+    // Reject locally once this many banned-term occurrences are found; fewer only raise the spam score
+    private int maxBannedTermHits = 3;
+
+    // Reject locally when the combined spam heuristics reach this score
+    private double rejectSpamScore = 0.85;
+}
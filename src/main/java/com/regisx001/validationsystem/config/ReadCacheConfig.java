@@ -0,0 +1,26 @@
+package com.regisx001.validationsystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.read-cache")
+public class ReadCacheConfig {
+    private static final Duration MAX_TTL = Duration.ofSeconds(30);
+
+    private boolean enabled = true;
+
+    // Per cache (articles, latest reviews, histories)
+    private int maxEntries = 2000;
+
+    // Writes on this instance invalidate immediately; the TTL bounds how long a write made
+    // through another instance can go unseen, so values above MAX_TTL are capped
+    private Duration ttl = Duration.ofSeconds(5);
+
+    public Duration effectiveTtl() {
+        return ttl.compareTo(MAX_TTL) > 0 ? MAX_TTL : ttl;
+    }
+}
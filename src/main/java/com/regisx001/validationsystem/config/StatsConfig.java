@@ -0,0 +1,21 @@
+package com.regisx001.validationsystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.stats")
+public class StatsConfig {
+    // How often hourly deltas are added to analysis_stats_hourly
+    private Duration flushInterval = Duration.ofSeconds(60);
+
+    // How often the status and decision totals are recounted from the database, picking up changes
+    // made through other instances
+    private Duration totalsRefreshInterval = Duration.ofMinutes(5);
+
+    // Hours of hourly buckets returned by /api/stats
+    private int windowHours = 24;
+}
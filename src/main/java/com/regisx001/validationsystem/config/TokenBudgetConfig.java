@@ -0,0 +1,34 @@
+package com.regisx001.validationsystem.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.analysis.token-budget")
+public class TokenBudgetConfig {
+    private boolean enabled = true;
+
+    // Share of an hourly or daily budget after which low-priority queue jobs are deferred;
+    // manual reviews are served regardless
+    private double deferThreshold = 0.9;
+
+    // Applies to models without an explicit entry; 0 means unlimited
+    private Limits defaultLimits = new Limits();
+
+    // Per-model overrides, e.g. llama3-8b-8192: { hourly-tokens: 200000, daily-tokens: 2000000 }
+    private Map<String, Limits> models = new HashMap<>();
+
+    public Limits limitsFor(String model) {
+        return models.getOrDefault(model, defaultLimits);
+    }
+
+    @Data
+    public static class Limits {
+        private long hourlyTokens;
+        private long dailyTokens;
+    }
+}
@@ -1,17 +1,25 @@
 package com.regisx001.validationsystem.controller;
 
+import com.regisx001.validationsystem.domain.dtos.AnalysisStreamEvent;
+import com.regisx001.validationsystem.domain.dtos.ArticleSummary;
+import com.regisx001.validationsystem.domain.dtos.CursorPage;
 import com.regisx001.validationsystem.domain.dtos.PageResponse;
 import com.regisx001.validationsystem.domain.entities.Article;
-import com.regisx001.validationsystem.repositories.AnalyseHistoryRepository;
+import com.regisx001.validationsystem.domain.enums.ArticleListOrder;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.domain.enums.TotalCountMode;
 import com.regisx001.validationsystem.services.AIAnalyseService;
 import com.regisx001.validationsystem.services.ArticleService;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -23,13 +31,22 @@ public class ArticleApprovalController {
     // private final ArticleRepository articleRepository;
     private final ArticleService articleService;
     private final AIAnalyseService aiAnalyseService;
-    private final AnalyseHistoryRepository analyseHistoryRepository;
 
     @GetMapping
-    public ResponseEntity<PageResponse<Article>> getAllArticles(Pageable pageable) {
+    public ResponseEntity<PageResponse<ArticleSummary>> getAllArticles(Pageable pageable) {
         return ResponseEntity.ok(PageResponse.of(articleService.getAllArticles(pageable)));
     }
 
+    // Keyset listing: constant cost per page at any depth, total only on request
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ArticleSummary>> getArticlesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "CREATED") ArticleListOrder order,
+            @RequestParam(defaultValue = "NONE") TotalCountMode total) {
+        return ResponseEntity.ok(articleService.getArticlesByCursor(cursor, size, order, total));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getArticle(@PathVariable UUID id) {
         return ResponseEntity.ok(articleService.getArticleById(id));
@@ -37,7 +54,7 @@ public class ArticleApprovalController {
 
     @GetMapping("/{id}/history")
     public ResponseEntity<?> getArticleAnalyseHistory(@PathVariable UUID id) {
-        return ResponseEntity.ok(analyseHistoryRepository.findByArticle_IdOrderByCreatedAtDesc(id));
+        return ResponseEntity.ok(aiAnalyseService.getAnalyseHistory(id));
     }
 
     @PostMapping
@@ -46,11 +63,25 @@ public class ArticleApprovalController {
         return ResponseEntity.ok(ar);
     }
 
+    // expectedStatus is the status the client last read; a change based on an outdated status gets 409
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateArticle(@PathVariable UUID id, @RequestBody Article article,
+            @RequestParam(required = false) ArticleStatus expectedStatus) {
+        return ResponseEntity.ok(articleService.updateArticle(id, article, expectedStatus));
+    }
+
     @PostMapping("/{id}/review")
     public ResponseEntity<?> submitForReview(@PathVariable UUID id) {
         return ResponseEntity.ok(aiAnalyseService.analyseArticleManual(id));
     }
 
+    // Emits "field" events as scores are generated, then one "result" event with the persisted AnalyseResult
+    @PostMapping(value = "/{id}/review/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<AnalysisStreamEvent>> streamReview(@PathVariable UUID id) {
+        return aiAnalyseService.analyseArticleStreaming(id)
+                .map(event -> ServerSentEvent.builder(event).event(event.getType()).build());
+    }
+
     // @GetMapping("/review-llm")
     // public ResponseEntity<?> getReviewLLM() {
     // return ResponseEntity.ok(approveAIService.getUsedLLM());
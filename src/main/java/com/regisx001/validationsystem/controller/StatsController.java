@@ -0,0 +1,24 @@
+package com.regisx001.validationsystem.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.regisx001.validationsystem.domain.dtos.ModerationStats;
+import com.regisx001.validationsystem.services.StatsService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final StatsService statsService;
+
+    @GetMapping
+    public ResponseEntity<ModerationStats> getStats() {
+        return ResponseEntity.ok(statsService.getStats());
+    }
+}
@@ -1,5 +1,6 @@
 package com.regisx001.validationsystem.domain.dtos;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,6 +28,10 @@ public class AIAnalysisResponse {
     private List<String> flaggedIssues;
     private Integer estimatedReadTime; // Added missing field
 
+    // Tokens spent producing this analysis; not part of the model's reply or the cached copy
+    @JsonIgnore
+    private TokenUsage usage;
+
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ContentQuality {
@@ -0,0 +1,41 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.regisx001.validationsystem.domain.entities.AnalyseResult;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisStreamEvent {
+    public static final String FIELD = "field";
+    public static final String RESULT = "result";
+    public static final String ERROR = "error";
+
+    private String type;
+
+    // Dotted path of a completed response field, e.g. "grammar.score"
+    private String field;
+    private Object value;
+
+    private AnalyseResult result;
+    private String message;
+
+    public static AnalysisStreamEvent field(String field, Object value) {
+        return AnalysisStreamEvent.builder().type(FIELD).field(field).value(value).build();
+    }
+
+    public static AnalysisStreamEvent result(AnalyseResult result) {
+        return AnalysisStreamEvent.builder().type(RESULT).result(result).build();
+    }
+
+    public static AnalysisStreamEvent error(String message) {
+        return AnalysisStreamEvent.builder().type(ERROR).message(message).build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Projection for bulk reads that only need the text of each article
+public interface ArticleContentView {
+    UUID getId();
+
+    LocalDateTime getCreatedAt();
+
+    String getContent();
+}
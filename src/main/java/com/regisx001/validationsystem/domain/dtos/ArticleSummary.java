@@ -0,0 +1,38 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// List-view row: the article without its content, plus the latest analysis outcome.
+// Field order matches the constructor expression in ArticleRepository.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleSummary {
+    public static final int EXCERPT_LENGTH = 280;
+
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private String featuredImage;
+    private ArticleStatus status;
+    private Boolean isPublished;
+    private LocalDateTime publishedAt;
+    private String feedback;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Integer wordCount;
+
+    private AnalyseDecision latestDecision;
+    private Double latestConfidenceScore;
+    private LocalDateTime latestAnalyzedAt;
+}
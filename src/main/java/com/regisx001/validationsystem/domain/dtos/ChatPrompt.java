@@ -0,0 +1,17 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatPrompt {
+    // Static per prompt kind, so provider-side prompt caching can reuse it; null keeps the client default
+    private String system;
+
+    private String user;
+}
@@ -0,0 +1,21 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReply {
+    private String content;
+
+    // Null when the provider did not report usage
+    private TokenUsage usage;
+
+    // Provider round trip in nanoseconds, without the rate-limit and permit waits before it; null when the
+    // reply was not timed (e.g. assembled from a stream)
+    private Long providerNanos;
+}
@@ -0,0 +1,26 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private int numberOfElements;
+
+    // Pass back as ?cursor= to get the following page; null on the last page
+    private String nextCursor;
+    private boolean hasNext;
+
+    // Only filled when requested, see TotalCountMode
+    private Long totalElements;
+    private boolean totalExact;
+}
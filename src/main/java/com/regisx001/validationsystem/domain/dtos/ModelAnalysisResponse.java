@@ -0,0 +1,19 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModelAnalysisResponse {
+    private AIAnalysisResponse response;
+
+    // The model whose answer was used, which differs from the configured one when a hedge won
+    private String aiModel;
+
+    private boolean hedged;
+}
@@ -0,0 +1,53 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModerationStats {
+    private Map<ArticleStatus, Long> articlesByStatus;
+    private Map<AnalyseDecision, Long> decisions;
+    private long totalAnalyses;
+    private Double averageConfidence;
+
+    // Ten buckets of width 0.1, from [0.0, 0.1) to [0.9, 1.0]
+    private List<Long> confidenceHistogram;
+
+    // Approvals below the configured confidence threshold
+    private long lowConfidenceApprovals;
+
+    private List<HourlyStats> hourly;
+    private LocalDateTime generatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HourlyStats {
+        private LocalDateTime bucketStart;
+        private long analyses;
+        private long approved;
+        private long rejected;
+        private long manualReview;
+        private long needsRevision;
+        private Double averageConfidence;
+        private Double averageLatencyMs;
+
+        // Upper bounds of the latency buckets the percentiles fall in
+        private Double p50LatencyMs;
+        private Double p95LatencyMs;
+        private Double p99LatencyMs;
+    }
+}
@@ -0,0 +1,20 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OriginalityCheck {
+    // 1 - estimated Jaccard similarity to the closest indexed article
+    private Double originalityScore;
+
+    private UUID mostSimilarArticleId;
+    private Double similarity;
+}
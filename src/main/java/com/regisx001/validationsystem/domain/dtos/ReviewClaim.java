@@ -0,0 +1,22 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import java.time.LocalDateTime;
+
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewClaim {
+    // The status the article is handed back in when the analysis fails or asks for revision
+    private ArticleStatus previousStatus;
+
+    // Identifies the claim; only its owner may release it
+    private LocalDateTime claimedAt;
+}
@@ -0,0 +1,29 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import java.util.UUID;
+
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransition {
+    private UUID articleId;
+
+    // The transition only applies while the article is still in this status
+    private ArticleStatus expectedStatus;
+
+    private ArticleStatus targetStatus;
+
+    // Optional; the current feedback is kept when null
+    private String feedback;
+
+    // Recorded as approvedBy / rejectedBy when the target is an approval or rejection
+    private String actor;
+}
@@ -0,0 +1,37 @@
+package com.regisx001.validationsystem.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Provider-reported token counts for one or more LLM calls
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenUsage {
+    private int promptTokens;
+    private int completionTokens;
+
+    public static TokenUsage none() {
+        return new TokenUsage(0, 0);
+    }
+
+    public int totalTokens() {
+        return promptTokens + completionTokens;
+    }
+
+    public TokenUsage plus(TokenUsage other) {
+        if (other == null) {
+            return this;
+        }
+        return new TokenUsage(promptTokens + other.promptTokens, completionTokens + other.completionTokens);
+    }
+
+    // Portion attributed to one article of a call that analysed several
+    public TokenUsage share(double fraction) {
+        return new TokenUsage((int) Math.round(promptTokens * fraction),
+                (int) Math.round(completionTokens * fraction));
+    }
+}
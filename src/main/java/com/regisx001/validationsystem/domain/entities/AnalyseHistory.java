@@ -50,6 +50,8 @@ public class AnalyseHistory {
     private Double confidenceScore;
     private String aiModel;
     private Integer processingTimeMs;
+    private Integer promptTokens;
+    private Integer completionTokens;
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
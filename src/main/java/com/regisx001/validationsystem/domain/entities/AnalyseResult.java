@@ -14,7 +14,9 @@ import java.util.UUID;
 
 @Data
 @Entity
-@Table(name = "analyse_results")
+@Table(name = "analyse_results", indexes = {
+        @Index(name = "idx_analyse_results_article_analyzed", columnList = "article_id, analyzed_at")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -55,6 +57,10 @@ public class AnalyseResult {
 
     private Integer processingTimeMs;
 
+    // Provider-reported usage; zero when no LLM call was made (cache hit, pre-screen rejection)
+    private Integer promptTokens;
+    private Integer completionTokens;
+
     @PrePersist
     public void onCreate() {
         this.analyzedAt = LocalDateTime.now();
@@ -0,0 +1,44 @@
+package com.regisx001.validationsystem.domain.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Table(name = "analysis_cache")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisCacheEntry {
+    // SHA-256 of the normalized title, content, model and prompt version
+    @Id
+    @Column(length = 64)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private String aiModel;
+
+    @Column(nullable = false)
+    private String promptVersion;
+
+    // Parsed AIAnalysisResponse, so thresholds are re-applied when the result is rebuilt
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String responseJson;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
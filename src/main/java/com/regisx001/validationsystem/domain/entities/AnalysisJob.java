@@ -0,0 +1,93 @@
+package com.regisx001.validationsystem.domain.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.regisx001.validationsystem.domain.enums.AnalysisJobStatus;
+import com.regisx001.validationsystem.domain.enums.AnalysisPriority;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Table(name = "analysis_jobs", indexes = {
+        @Index(name = "idx_analysis_jobs_claim", columnList = "status, available_at"),
+        @Index(name = "idx_analysis_jobs_article", columnList = "article_id")
+})
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "article_id", nullable = false)
+    private UUID articleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private AnalysisJobStatus status = AnalysisJobStatus.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private AnalysisPriority priority = AnalysisPriority.NORMAL;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // Jobs are invisible to workers until this time (initial delay or retry backoff)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    private String lockedBy;
+
+    // Visibility timeout: a RUNNING job whose lock expired is claimable again
+    private LocalDateTime lockedUntil;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    // The article was edited while this job was RUNNING; it is queued again when the run ends
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean rerun = false;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+        if (this.availableAt == null) {
+            this.availableAt = now;
+        }
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,53 @@
+package com.regisx001.validationsystem.domain.entities;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One row per hour of analyses; instances add their deltas to it, never overwrite
+@Data
+@Entity
+@Table(name = "analysis_stats_hourly")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisStatsRollup {
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    private long analyses;
+    private long approved;
+    private long rejected;
+    private long manualReview;
+    private long needsRevision;
+
+    private double confidenceSum;
+    private long latencySumMs;
+
+    // Counts per StatsServiceImpl.LATENCY_BOUNDS_MS bucket
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
+    private long[] latencyHistogram;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -4,10 +4,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.regisx001.validationsystem.domain.enums.ArticleStatus;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -15,6 +19,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -22,11 +27,17 @@ import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Data
 @Entity
-@Table(name = "articles")
+@DynamicUpdate
+@Table(name = "articles", indexes = {
+        @Index(name = "idx_articles_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_articles_published_id", columnList = "is_published, published_at, id")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -55,6 +66,7 @@ public class Article {
 
     private LocalDateTime publishedAt;
 
+    @Column(columnDefinition = "TEXT")
     private String feedback;
 
     @Column(nullable = false)
@@ -69,10 +81,32 @@ public class Article {
     private LocalDateTime approvedAt;
     private String approvedBy;
 
+    // Set while the article is UNDER_AI_REVIEW; see ArticleStatusService.claimReview
+    @Enumerated(EnumType.STRING)
+    @JsonIgnore
+    private ArticleStatus reviewFromStatus;
+
+    @JsonIgnore
+    private LocalDateTime reviewClaimedAt;
+
+    // ContentHashing.fingerprint of the content, set whenever the content is written
+    @JsonIgnore
+    private String contentHash;
+
+    @Embedded
+    private ContentSignals signals;
+
+    // Served by their own endpoints; serialising them here loaded both collections per article
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<AnalyseResult> analyseResults;
 
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<AnalyseHistory> analyseHistories;
 
     @PrePersist
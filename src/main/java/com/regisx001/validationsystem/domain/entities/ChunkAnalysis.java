@@ -0,0 +1,67 @@
+package com.regisx001.validationsystem.domain.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Analysis of one article section, addressed by the hash of its normalized text so
+// unchanged sections are reused when the surrounding article is edited
+@Data
+@Entity
+@Table(name = "chunk_analyses", uniqueConstraints = @UniqueConstraint(
+        name = "uk_chunk_analyses_hash_model_version", columnNames = { "chunk_hash", "ai_model", "prompt_version" }))
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkAnalysis {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "chunk_hash", nullable = false, length = 64)
+    private String chunkHash;
+
+    @Column(name = "ai_model", nullable = false)
+    private String aiModel;
+
+    @Column(name = "prompt_version", nullable = false)
+    private String promptVersion;
+
+    @Column(nullable = false)
+    private Integer tokenCount;
+
+    @Column(nullable = false)
+    private Double overallScore;
+
+    private String recommendation;
+    private Double contentQualityScore;
+    private Double grammarScore;
+    private Double appropriatenessScore;
+    private Double seoScore;
+
+    @Column(columnDefinition = "TEXT")
+    private String feedback;
+
+    @Column(columnDefinition = "TEXT")
+    private String recommendations;
+
+    @Column(nullable = false)
+    private LocalDateTime analyzedAt;
+
+    @PrePersist
+    public void onCreate() {
+        this.analyzedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,44 @@
+package com.regisx001.validationsystem.domain.entities;
+
+import java.time.LocalDateTime;
+
+import com.regisx001.validationsystem.domain.enums.PreScreenVerdict;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Locally computed pre-screening signals, refreshed on every analysis
+@Data
+@Embeddable
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentSignals {
+    private Integer wordCount;
+    private Integer sentenceCount;
+
+    // Flesch reading ease
+    private Double readabilityScore;
+
+    private Integer longestCharRun;
+    private Double uppercaseRatio;
+    private Integer linkCount;
+    private Integer bannedTermHits;
+
+    // 0 (clean) to 1 (certainly spam), combined from the heuristics above
+    private Double spamScore;
+
+    @Enumerated(EnumType.STRING)
+    private PreScreenVerdict prescreenVerdict;
+
+    @Column(columnDefinition = "TEXT")
+    private String prescreenReason;
+
+    private LocalDateTime screenedAt;
+}
@@ -0,0 +1,8 @@
+package com.regisx001.validationsystem.domain.enums;
+
+public enum AnalysisJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.regisx001.validationsystem.domain.enums;
+
+public enum AnalysisPriority {
+    // Deferred while a token budget is nearly spent
+    LOW,
+    NORMAL
+}
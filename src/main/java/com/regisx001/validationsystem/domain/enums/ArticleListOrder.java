@@ -0,0 +1,8 @@
+package com.regisx001.validationsystem.domain.enums;
+
+public enum ArticleListOrder {
+    // Newest first on (createdAt, id)
+    CREATED,
+    // Published articles only, newest first on (publishedAt, id)
+    PUBLISHED
+}
@@ -0,0 +1,8 @@
+package com.regisx001.validationsystem.domain.enums;
+
+public enum PreScreenVerdict {
+    // Obvious junk, decided locally without an LLM call
+    REJECTED,
+    // Forwarded to the LLM for a full analysis
+    FORWARDED
+}
@@ -0,0 +1,8 @@
+package com.regisx001.validationsystem.domain.enums;
+
+public enum TotalCountMode {
+    NONE,
+    // Planner statistics; constant time but only as fresh as the last ANALYZE
+    ESTIMATE,
+    EXACT
+}
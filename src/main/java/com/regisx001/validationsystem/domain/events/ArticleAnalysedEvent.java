@@ -0,0 +1,10 @@
+package com.regisx001.validationsystem.domain.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
+
+public record ArticleAnalysedEvent(UUID articleId, AnalyseDecision decision, double confidenceScore,
+        int processingTimeMs, String aiModel, LocalDateTime analyzedAt) {
+}
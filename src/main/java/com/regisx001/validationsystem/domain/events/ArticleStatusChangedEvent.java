@@ -0,0 +1,9 @@
+package com.regisx001.validationsystem.domain.events;
+
+import java.util.UUID;
+
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+
+// fromStatus is null for a new article, toStatus is null for a deleted one
+public record ArticleStatusChangedEvent(UUID articleId, ArticleStatus fromStatus, ArticleStatus toStatus) {
+}
@@ -0,0 +1,7 @@
+package com.regisx001.validationsystem.domain.events;
+
+import java.util.UUID;
+
+// Any change to an article's stored fields, including ones that leave its status unchanged
+public record ArticleUpdatedEvent(UUID articleId) {
+}
@@ -0,0 +1,18 @@
+package com.regisx001.validationsystem.exceptions;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+@Getter
+public class AIUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public AIUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
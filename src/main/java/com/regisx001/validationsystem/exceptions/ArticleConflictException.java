@@ -0,0 +1,11 @@
+package com.regisx001.validationsystem.exceptions;
+
+// The article moved on since the client read it; the client has to reload and decide again
+public class ArticleConflictException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArticleConflictException(String message) {
+        super(message);
+    }
+}
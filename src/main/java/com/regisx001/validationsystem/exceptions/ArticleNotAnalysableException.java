@@ -0,0 +1,11 @@
+package com.regisx001.validationsystem.exceptions;
+
+// The article's content cannot be analysed as it stands; retrying without an edit fails the same way
+public class ArticleNotAnalysableException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArticleNotAnalysableException(String message) {
+        super(message);
+    }
+}
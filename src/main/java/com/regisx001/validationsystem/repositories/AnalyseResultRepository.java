@@ -30,4 +30,16 @@ public interface AnalyseResultRepository extends JpaRepository<AnalyseResult, UU
 
     @Query("SELECT ar FROM AnalyseResult ar WHERE ar.confidenceScore < ?1 AND ar.decision = 'APPROVED'")
     List<AnalyseResult> findLowConfidenceApprovals(Double threshold);
+
+    @Query("SELECT COUNT(ar) FROM AnalyseResult ar WHERE ar.confidenceScore < ?1 AND ar.decision = 'APPROVED'")
+    long countLowConfidenceApprovals(Double threshold);
+
+    // Startup seeding for the in-memory statistics: rows of [decision, count, sum of confidence]
+    @Query("SELECT ar.decision, COUNT(ar), SUM(ar.confidenceScore) FROM AnalyseResult ar GROUP BY ar.decision")
+    List<Object[]> aggregateByDecision();
+
+    // Rows of [floor(confidence * 10), count]
+    @Query("SELECT FLOOR(ar.confidenceScore * 10), COUNT(ar) FROM AnalyseResult ar "
+            + "GROUP BY FLOOR(ar.confidenceScore * 10)")
+    List<Object[]> countByConfidenceDecile();
 }
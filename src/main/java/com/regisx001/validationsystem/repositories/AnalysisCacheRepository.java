@@ -0,0 +1,10 @@
+package com.regisx001.validationsystem.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.regisx001.validationsystem.domain.entities.AnalysisCacheEntry;
+
+@Repository
+public interface AnalysisCacheRepository extends JpaRepository<AnalysisCacheEntry, String> {
+}
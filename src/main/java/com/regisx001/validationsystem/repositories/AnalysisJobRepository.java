@@ -0,0 +1,59 @@
+package com.regisx001.validationsystem.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
+
+import com.regisx001.validationsystem.domain.entities.AnalysisJob;
+import com.regisx001.validationsystem.domain.enums.AnalysisJobStatus;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, UUID> {
+
+    // Folds a submit into the article's active job, if it has one: a pending job reads the latest
+    // content when it runs, a running one is analysing older text and is flagged to run again.
+    // A LOW job is raised to the submitted priority rather than holding back a NORMAL submit.
+    // Returns 0 when there is no active job.
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE analysis_jobs
+            SET rerun = (rerun OR status = 'RUNNING'),
+                priority = CASE WHEN priority = 'LOW' THEN ?2 ELSE priority END,
+                updated_at = ?3
+            WHERE article_id = ?1 AND status IN ('PENDING', 'RUNNING')
+            """, nativeQuery = true)
+    int absorbSubmit(UUID articleId, String priority, LocalDateTime now);
+
+    // Serialises a worker's completion with absorbSubmit, so a rerun flag set meanwhile is not lost
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM AnalysisJob j WHERE j.id = ?1")
+    Optional<AnalysisJob> findForUpdate(UUID id);
+
+    // Rows locked by another worker are skipped instead of waited on, so several
+    // instances can drain the same table without contending. Must run in a transaction.
+    // Only jobs with one of the given priorities are claimed; LOW jobs go last.
+    @Query(value = """
+            SELECT * FROM analysis_jobs
+            WHERE ((status = 'PENDING' AND available_at <= ?1)
+                OR (status = 'RUNNING' AND locked_until < ?1))
+              AND priority IN (?2)
+            ORDER BY priority = 'LOW', available_at
+            LIMIT ?3
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<AnalysisJob> lockNextBatch(LocalDateTime now, Collection<String> priorities, int limit);
+
+    long countByStatus(AnalysisJobStatus status);
+}
@@ -0,0 +1,24 @@
+package com.regisx001.validationsystem.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.regisx001.validationsystem.domain.entities.AnalysisStatsRollup;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface AnalysisStatsRollupRepository extends JpaRepository<AnalysisStatsRollup, LocalDateTime> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM AnalysisStatsRollup r WHERE r.bucketStart = ?1")
+    Optional<AnalysisStatsRollup> findForUpdate(LocalDateTime bucketStart);
+
+    List<AnalysisStatsRollup> findByBucketStartGreaterThanEqualOrderByBucketStartAsc(LocalDateTime since);
+}
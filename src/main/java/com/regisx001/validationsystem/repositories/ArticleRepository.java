@@ -1,20 +1,39 @@
 package com.regisx001.validationsystem.repositories;
 
+import com.regisx001.validationsystem.domain.dtos.ArticleContentView;
+import com.regisx001.validationsystem.domain.dtos.ArticleSummary;
 import com.regisx001.validationsystem.domain.entities.Article;
 import com.regisx001.validationsystem.domain.enums.ArticleStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, UUID> {
 
+    String SUMMARY_SELECT = "SELECT new com.regisx001.validationsystem.domain.dtos.ArticleSummary(a.id, a.title, "
+            + "SUBSTRING(a.content, 1, " + ArticleSummary.EXCERPT_LENGTH + "), a.featuredImage, a.status, "
+            + "a.isPublished, a.publishedAt, a.feedback, a.createdAt, a.updatedAt, a.signals.wordCount, "
+            + "r.decision, r.confidenceScore, r.analyzedAt) "
+            + "FROM Article a LEFT JOIN AnalyseResult r ON r.article = a "
+            + "WHERE NOT EXISTS (SELECT r2.id FROM AnalyseResult r2 WHERE r2.article = a "
+            + "AND (r2.analyzedAt > r.analyzedAt OR (r2.analyzedAt = r.analyzedAt AND r2.id > r.id)))";
+
     List<Article> findByStatus(ArticleStatus status);
 
     Page<Article> findByStatusIn(List<ArticleStatus> statuses, Pageable pageable);
@@ -27,6 +46,92 @@ public interface ArticleRepository extends JpaRepository<Article, UUID> {
     @Query("SELECT COUNT(a) FROM Article a WHERE a.status = ?1")
     Long countByStatus(ArticleStatus status);
 
+    // Rows of [status, count]; used once at startup to seed the in-memory statistics
+    @Query("SELECT a.status, COUNT(a) FROM Article a GROUP BY a.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT a.id AS id, a.createdAt AS createdAt, a.content AS content FROM Article a")
+    Slice<ArticleContentView> findAllContent(Pageable pageable);
+
     @Query("SELECT a FROM Article a WHERE a.isPublished = true ORDER BY a.publishedAt DESC")
     Page<Article> findPublishedArticles(Pageable pageable);
+
+    // List views: no content beyond the excerpt, latest analysis joined in, one statement per page
+    // (plus the count). Results written in the same instant are tie-broken on id, so each article
+    // yields exactly one row.
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(a) FROM Article a")
+    Page<ArticleSummary> findAllSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " AND a.id IN ?1")
+    List<ArticleSummary> findSummariesByIdIn(Collection<UUID> ids);
+
+    // Keyset pages return ids only (an index-only scan); the row-value comparison lets Postgres
+    // start the scan at the cursor, so every page costs the same regardless of depth
+    @Query(value = "SELECT id FROM articles ORDER BY created_at DESC, id DESC LIMIT ?1", nativeQuery = true)
+    List<UUID> findFirstIdsByCreatedAt(int limit);
+
+    @Query(value = "SELECT id FROM articles WHERE (created_at, id) < (?1, ?2) "
+            + "ORDER BY created_at DESC, id DESC LIMIT ?3", nativeQuery = true)
+    List<UUID> findIdsAfterCreatedAt(LocalDateTime createdAt, UUID id, int limit);
+
+    @Query(value = "SELECT id FROM articles WHERE is_published = true AND published_at IS NOT NULL "
+            + "ORDER BY published_at DESC, id DESC LIMIT ?1", nativeQuery = true)
+    List<UUID> findFirstPublishedIds(int limit);
+
+    @Query(value = "SELECT id FROM articles WHERE is_published = true AND published_at IS NOT NULL "
+            + "AND (published_at, id) < (?1, ?2) ORDER BY published_at DESC, id DESC LIMIT ?3", nativeQuery = true)
+    List<UUID> findPublishedIdsAfter(LocalDateTime publishedAt, UUID id, int limit);
+
+    // Holds the row until the caller commits, so a status transition cannot land between the read and a
+    // write of the same entity
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Article a WHERE a.id = ?1")
+    Optional<Article> findForUpdate(UUID id);
+
+    @Query("SELECT a.status FROM Article a WHERE a.id = ?1")
+    Optional<ArticleStatus> findStatusById(UUID id);
+
+    // Compare-and-set on status: 1 when the article was still in expected, 0 when another writer got there
+    // first. Null arguments leave the current value; content is neither read nor written.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Article a SET a.status = :target, a.feedback = COALESCE(:feedback, a.feedback), "
+            + "a.approvedAt = COALESCE(:approvedAt, a.approvedAt), a.approvedBy = COALESCE(:approvedBy, a.approvedBy), "
+            + "a.rejectedAt = COALESCE(:rejectedAt, a.rejectedAt), a.rejectedBy = COALESCE(:rejectedBy, a.rejectedBy), "
+            + "a.updatedAt = :updatedAt WHERE a.id = :id AND a.status = :expected")
+    int transitionStatus(@Param("id") UUID id, @Param("expected") ArticleStatus expected,
+            @Param("target") ArticleStatus target, @Param("feedback") String feedback,
+            @Param("approvedAt") LocalDateTime approvedAt, @Param("approvedBy") String approvedBy,
+            @Param("rejectedAt") LocalDateTime rejectedAt, @Param("rejectedBy") String rejectedBy,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Claims the article for one analysis and remembers the status it had. A claim taken before staleBefore
+    // was left by a crashed analysis and is taken over, keeping the status that claim remembered.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Article a SET a.reviewFromStatus = CASE WHEN a.status = 'UNDER_AI_REVIEW' "
+            + "THEN a.reviewFromStatus ELSE a.status END, a.status = 'UNDER_AI_REVIEW', "
+            + "a.reviewClaimedAt = :claimedAt, a.updatedAt = :claimedAt WHERE a.id = :id AND a.status = :expected "
+            + "AND (a.status <> 'UNDER_AI_REVIEW' OR a.reviewClaimedAt IS NULL OR a.reviewClaimedAt < :staleBefore)")
+    int claimReview(@Param("id") UUID id, @Param("expected") ArticleStatus expected,
+            @Param("claimedAt") LocalDateTime claimedAt, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Query("SELECT a.reviewFromStatus FROM Article a WHERE a.id = ?1 AND a.status = 'UNDER_AI_REVIEW'")
+    Optional<ArticleStatus> findReviewFromStatusById(UUID id);
+
+    // Hands the article back in its remembered status while it is still under a claim taken within
+    // [claimedFrom, claimedTo]
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Article a SET a.status = a.reviewFromStatus, a.reviewClaimedAt = NULL, a.updatedAt = :updatedAt "
+            + "WHERE a.id = :id AND a.status = 'UNDER_AI_REVIEW' AND a.reviewFromStatus IS NOT NULL "
+            + "AND a.reviewClaimedAt BETWEEN :claimedFrom AND :claimedTo")
+    int releaseReview(@Param("id") UUID id, @Param("claimedFrom") LocalDateTime claimedFrom,
+            @Param("claimedTo") LocalDateTime claimedTo, @Param("updatedAt") LocalDateTime updatedAt);
+
+    long countByIsPublishedTrue();
+
+    // Planner estimate, PostgreSQL only; negative when the table has never been analysed
+    @Query(value = "SELECT reltuples::bigint FROM pg_class WHERE oid = 'articles'::regclass", nativeQuery = true)
+    long estimateCount();
 }
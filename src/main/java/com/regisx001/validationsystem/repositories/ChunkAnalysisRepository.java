@@ -0,0 +1,17 @@
+package com.regisx001.validationsystem.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.regisx001.validationsystem.domain.entities.ChunkAnalysis;
+
+@Repository
+public interface ChunkAnalysisRepository extends JpaRepository<ChunkAnalysis, UUID> {
+
+    List<ChunkAnalysis> findByChunkHashInAndAiModelAndPromptVersion(Collection<String> chunkHashes, String aiModel,
+            String promptVersion);
+}
@@ -1,13 +1,22 @@
 package com.regisx001.validationsystem.services;
 
+import java.util.List;
 import java.util.UUID;
 
+import com.regisx001.validationsystem.domain.dtos.AnalysisStreamEvent;
+import com.regisx001.validationsystem.domain.entities.AnalyseHistory;
 import com.regisx001.validationsystem.domain.entities.AnalyseResult;
 
+import reactor.core.publisher.Flux;
+
 public interface AIAnalyseService {
     void analyseArticle(UUID id);
 
     AnalyseResult analyseArticleManual(UUID id);
 
+    Flux<AnalysisStreamEvent> analyseArticleStreaming(UUID id);
+
     AnalyseResult getLatestApprovalResult(UUID id);
+
+    List<AnalyseHistory> getAnalyseHistory(UUID id);
 }
@@ -0,0 +1,33 @@
+package com.regisx001.validationsystem.services;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
+
+import reactor.core.publisher.Flux;
+
+public interface AIChatService {
+    String call(ChatPrompt prompt);
+
+    // Same as call(prompt), against a model other than the configured default
+    String call(ChatPrompt prompt, String model);
+
+    // Same as call(prompt, model), with the token usage the provider reported
+    ChatReply exchange(ChatPrompt prompt, String model);
+
+    // abandoned tells, once the call has failed, whether the caller gave up on it (e.g. a hedge that lost
+    // the race); such a failure is not held against the provider. The two-argument form asks whether the
+    // calling thread was interrupted. onSent receives System.nanoTime() once the call has been admitted
+    // and holds a provider permit, just before the request goes out.
+    ChatReply exchange(ChatPrompt prompt, String model, BooleanSupplier abandoned, LongConsumer onSent);
+
+    // onUsage receives the reported usage once the stream completes
+    Flux<String> stream(ChatPrompt prompt, Consumer<TokenUsage> onUsage);
+
+    // False while the provider circuit is open and calls would be rejected
+    boolean isAvailable();
+}
@@ -0,0 +1,18 @@
+package com.regisx001.validationsystem.services;
+
+import java.util.Optional;
+
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.entities.Article;
+
+public interface AnalysisCacheService {
+    String fingerprint(Article article);
+
+    // Key for a reply from a model other than the configured one
+    String fingerprint(Article article, String model);
+
+    Optional<AIAnalysisResponse> lookup(String fingerprint);
+
+    // model is the one that produced the response, the same one the fingerprint was computed for
+    void store(String fingerprint, String model, AIAnalysisResponse response);
+}
@@ -0,0 +1,9 @@
+package com.regisx001.validationsystem.services;
+
+import java.util.UUID;
+
+import com.regisx001.validationsystem.domain.enums.AnalysisPriority;
+
+public interface AnalysisJobService {
+    void submit(UUID articleId, AnalysisPriority priority);
+}
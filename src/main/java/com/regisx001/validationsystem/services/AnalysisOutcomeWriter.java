@@ -0,0 +1,18 @@
+package com.regisx001.validationsystem.services;
+
+import java.util.function.Consumer;
+
+import com.regisx001.validationsystem.domain.entities.AnalyseHistory;
+import com.regisx001.validationsystem.domain.entities.AnalyseResult;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+
+public interface AnalysisOutcomeWriter {
+    // Stores the result and applies the article's new status and feedback if the article is still in
+    // expectedStatus. Returns whether that transition applied; the history row is only written when it
+    // did. The signals are written separately, and only while the content they were computed from is
+    // still the article's content. onCommit receives the same flag once the rows have committed, which with
+    // write-behind may be after this returns; it is not called when they fail to commit.
+    boolean write(Article article, ArticleStatus expectedStatus, AnalyseResult result, AnalyseHistory history,
+            Consumer<Boolean> onCommit);
+}
@@ -0,0 +1,10 @@
+package com.regisx001.validationsystem.services;
+
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+
+public interface AnalysisResponseService {
+    // Parses an analysis reply, asking the model for any required fields it left out. Falls back to
+    // the manual-review response when nothing usable remains. Usage includes the repair call.
+    AIAnalysisResponse read(ChatReply reply, String model);
+}
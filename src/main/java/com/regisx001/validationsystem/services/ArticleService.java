@@ -5,16 +5,26 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.regisx001.validationsystem.domain.dtos.ArticleSummary;
+import com.regisx001.validationsystem.domain.dtos.CursorPage;
 import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.enums.ArticleListOrder;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.domain.enums.TotalCountMode;
 
 public interface ArticleService {
     Article createArticle(Article article);
 
     Article getArticleById(UUID id);
 
-    Article updateArticle(UUID id, Article article);
+    // expectedStatus is the status the client last read. It is required to change the status, and when
+    // given the update is refused with ArticleConflictException if the article has moved on since.
+    Article updateArticle(UUID id, Article article, ArticleStatus expectedStatus);
 
     void deleteArticle(UUID id);
 
-    Page<Article> getAllArticles(Pageable pageable);
+    Page<ArticleSummary> getAllArticles(Pageable pageable);
+
+    // A cursor from a previous page fixes the order; order is only used for the first page
+    CursorPage<ArticleSummary> getArticlesByCursor(String cursor, int size, ArticleListOrder order, TotalCountMode total);
 }
@@ -0,0 +1,25 @@
+package com.regisx001.validationsystem.services;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.regisx001.validationsystem.domain.dtos.ReviewClaim;
+import com.regisx001.validationsystem.domain.dtos.StatusTransition;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+
+public interface ArticleStatusService {
+    // Applies the transition with a single conditional UPDATE; false when the article was
+    // no longer in the expected status (or does not exist)
+    boolean transition(StatusTransition transition);
+
+    // Moves the article to UNDER_AI_REVIEW and remembers the status it had. Empty when it was no longer in
+    // expected, or another analysis holds a claim taken at or after staleBefore.
+    Optional<ReviewClaim> claimReview(UUID articleId, ArticleStatus expected, LocalDateTime staleBefore);
+
+    // Hands the article back in its remembered status, unless the claim was taken over or the review ended
+    boolean releaseReview(UUID articleId, ReviewClaim claim);
+
+    // Same, for any claim taken before claimedBefore by an analysis known to be dead
+    boolean releaseStaleReview(UUID articleId, LocalDateTime claimedBefore);
+}
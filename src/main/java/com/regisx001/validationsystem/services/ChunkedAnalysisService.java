@@ -0,0 +1,10 @@
+package com.regisx001.validationsystem.services;
+
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.entities.Article;
+
+public interface ChunkedAnalysisService {
+    boolean accepts(Article article);
+
+    AIAnalysisResponse analyse(Article article);
+}
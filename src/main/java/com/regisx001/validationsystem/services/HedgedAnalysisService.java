@@ -0,0 +1,8 @@
+package com.regisx001.validationsystem.services;
+
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.dtos.ModelAnalysisResponse;
+
+public interface HedgedAnalysisService {
+    ModelAnalysisResponse analyse(ChatPrompt prompt);
+}
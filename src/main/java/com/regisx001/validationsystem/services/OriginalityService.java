@@ -0,0 +1,15 @@
+package com.regisx001.validationsystem.services;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.regisx001.validationsystem.domain.dtos.OriginalityCheck;
+
+public interface OriginalityService {
+    void index(UUID articleId, LocalDateTime createdAt, String content);
+
+    void remove(UUID articleId);
+
+    // Compared only against articles created before this one; the original is never flagged as its copy
+    OriginalityCheck check(UUID articleId, LocalDateTime createdAt, String content);
+}
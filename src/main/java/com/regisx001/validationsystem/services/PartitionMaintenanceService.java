@@ -0,0 +1,6 @@
+package com.regisx001.validationsystem.services;
+
+public interface PartitionMaintenanceService {
+    // Creates upcoming monthly partitions and removes those past retention
+    void maintain();
+}
@@ -0,0 +1,9 @@
+package com.regisx001.validationsystem.services;
+
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+
+public interface PreScreenService {
+    // Computes the signals, applies the pre-screen rules and attaches the outcome to the article
+    ContentSignals screen(Article article);
+}
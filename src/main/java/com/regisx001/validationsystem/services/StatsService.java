@@ -0,0 +1,7 @@
+package com.regisx001.validationsystem.services;
+
+import com.regisx001.validationsystem.domain.dtos.ModerationStats;
+
+public interface StatsService {
+    ModerationStats getStats();
+}
@@ -0,0 +1,10 @@
+package com.regisx001.validationsystem.services;
+
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
+
+public interface TokenBudgetService {
+    void record(String model, TokenUsage usage);
+
+    // True once the model has used deferThreshold of its hourly or daily budget
+    boolean isConstrained(String model);
+}
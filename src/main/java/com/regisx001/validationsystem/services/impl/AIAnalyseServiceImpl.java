@@ -1,34 +1,93 @@
 package com.regisx001.validationsystem.services.impl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
 
-import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import com.regisx001.validationsystem.config.AnalysisJobQueueConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.AnalysisStreamEvent;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+import com.regisx001.validationsystem.domain.dtos.ModelAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.OriginalityCheck;
+import com.regisx001.validationsystem.domain.dtos.ReviewClaim;
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
 import com.regisx001.validationsystem.domain.entities.AnalyseHistory;
 import com.regisx001.validationsystem.domain.entities.AnalyseResult;
 import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
 import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
 import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.domain.enums.PreScreenVerdict;
+import com.regisx001.validationsystem.domain.events.ArticleAnalysedEvent;
+import com.regisx001.validationsystem.domain.events.ArticleStatusChangedEvent;
+import com.regisx001.validationsystem.exceptions.AIUnavailableException;
+import com.regisx001.validationsystem.exceptions.ArticleNotAnalysableException;
 import com.regisx001.validationsystem.repositories.AnalyseHistoryRepository;
 import com.regisx001.validationsystem.repositories.AnalyseResultRepository;
 import com.regisx001.validationsystem.repositories.ArticleRepository;
 import com.regisx001.validationsystem.services.AIAnalyseService;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.AnalysisBatchService;
+import com.regisx001.validationsystem.services.AnalysisCacheService;
+import com.regisx001.validationsystem.services.AnalysisOutcomeWriter;
+import com.regisx001.validationsystem.services.AnalysisResponseService;
+import com.regisx001.validationsystem.services.ArticleStatusService;
+import com.regisx001.validationsystem.services.ChunkedAnalysisService;
+import com.regisx001.validationsystem.services.HedgedAnalysisService;
+import com.regisx001.validationsystem.services.OriginalityService;
+import com.regisx001.validationsystem.services.PreScreenService;
+import com.regisx001.validationsystem.utils.AnalysisMetrics;
+import com.regisx001.validationsystem.utils.ArticleReadCache;
 import com.regisx001.validationsystem.utils.ArticleUtils;
+import com.regisx001.validationsystem.utils.IncrementalJsonFieldParser;
+import com.regisx001.validationsystem.utils.SingleFlight;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AIAnalyseServiceImpl implements AIAnalyseService {
 
+    // Fields pushed to streaming clients as soon as the model has finished writing them
+    private static final Set<String> STREAMED_FIELDS = Set.of("overallScore", "recommendation",
+            "contentQuality.score", "grammar.score", "appropriateness.score", "seo.score");
+
     private final ArticleUtils utils;
     private final AnalyseResultRepository analyseResultRepository;
     private final ArticleRepository articleRepository;
     private final AnalyseHistoryRepository analyseHistoryRepository;
-    private final ChatClient chatClient;
+    private final AnalysisOutcomeWriter analysisOutcomeWriter;
+    private final AIChatService aiChatService;
+    private final AnalysisCacheService analysisCacheService;
+    private final AnalysisBatchService analysisBatchService;
+    private final ChunkedAnalysisService chunkedAnalysisService;
+    private final HedgedAnalysisService hedgedAnalysisService;
+    private final AnalysisResponseService analysisResponseService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PreScreenService preScreenService;
+    private final OriginalityService originalityService;
+    private final ArticleReadCache articleReadCache;
+    private final ArticleStatusService articleStatusService;
+    private final AnalysisJobQueueConfig queueConfig;
+    private final AnalysisMetrics metrics;
+
+    // Keyed by article id and content fingerprint so a background and a manual
+    // analysis of the same text share one LLM call and one set of writes
+    private final SingleFlight<String, AnalyseResult> inFlightAnalyses = new SingleFlight<>();
 
     @Async
     @Override
@@ -39,38 +98,257 @@ public class AIAnalyseServiceImpl implements AIAnalyseService {
 
     @Override
     public AnalyseResult getLatestApprovalResult(UUID id) {
-        AnalyseResult result = analyseResultRepository.findFirstByArticleIdOrderByAnalyzedAtDesc(id)
+        AnalyseResult result = articleReadCache.latestReview(id,
+                analyseResultRepository::findFirstByArticleIdOrderByAnalyzedAtDesc)
                 .orElseThrow(() -> new RuntimeException("No Result for this article"));
         return result;
     }
 
+    @Override
+    public List<AnalyseHistory> getAnalyseHistory(UUID id) {
+        return articleReadCache.history(id, analyseHistoryRepository::findByArticle_IdOrderByCreatedAtDesc);
+    }
+
     @Override
     public AnalyseResult analyseArticleManual(UUID id) {
         return analyse(id);
     }
 
+    @Override
+    public Flux<AnalysisStreamEvent> analyseArticleStreaming(UUID id) {
+        return Flux.defer(() -> {
+            Article article = articleRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Article not found with ID: " + id));
+            return streamAnalysis(article);
+        }).onErrorResume(e -> Flux.just(AnalysisStreamEvent.error(e.getMessage())));
+    }
+
     private AnalyseResult analyse(UUID id) {
-        Article article = articleRepository.findById(id).orElseThrow(() -> new RuntimeException("Article not found"));
+        Article article = articleRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Article not found with ID: " + id));
+        String fingerprint = analysisCacheService.fingerprint(article);
+        return inFlightAnalyses.execute(id + ":" + fingerprint, () -> analyse(article, fingerprint));
+    }
+
+    private AnalyseResult analyse(Article article, String fingerprint) {
+        long startTime = System.currentTimeMillis();
+        long start = metrics.start();
+        boolean valid = utils.isValidForAnalysis(article);
+        metrics.record(AnalysisMetrics.VALIDATE, utils.getUsedLLM(), valid ? "valid" : "invalid", start);
+        if (!valid) {
+            throw new ArticleNotAnalysableException("Article doesn't meet basic requirements by system-analysis");
+        }
+
+        ReviewClaim claim = beginReview(article);
+        try {
+            AnalyseResult result = review(article, fingerprint, startTime, claim.getPreviousStatus());
+            metrics.record(AnalysisMetrics.TOTAL, result.getAiModel(), AnalysisMetrics.outcome(result.getDecision()),
+                    start);
+            return result;
+        } catch (RuntimeException e) {
+            abandonReview(article, claim);
+            metrics.record(AnalysisMetrics.TOTAL, utils.getUsedLLM(),
+                    e instanceof AIUnavailableException ? "unavailable" : "error", start);
+            throw e;
+        }
+    }
+
+    private AnalyseResult review(Article article, String fingerprint, long startTime, ArticleStatus previousStatus) {
+        long stageStart = metrics.start();
+        ContentSignals signals = preScreenService.screen(article);
+        metrics.record(AnalysisMetrics.PRESCREEN, ArticleUtils.PRESCREEN_MODEL,
+                AnalysisMetrics.outcome(signals.getPrescreenVerdict()), stageStart);
+        if (signals.getPrescreenVerdict() == PreScreenVerdict.REJECTED) {
+            return record(article, utils.buildPreScreenRejection(signals), startTime, ArticleUtils.PRESCREEN_MODEL,
+                    previousStatus, TokenUsage.none());
+        }
+
+        String aiModel = utils.getUsedLLM();
+        stageStart = metrics.start();
+        AIAnalysisResponse response = analysisCacheService.lookup(fingerprint).orElse(null);
+        metrics.record(AnalysisMetrics.CACHE, aiModel, response != null ? "hit" : "miss", stageStart);
+        TokenUsage usage = TokenUsage.none();
+        if (response == null) {
+            // Outcome is the path taken: batch, chunked, single or hedged
+            stageStart = metrics.start();
+            String path;
+            if (analysisBatchService.accepts(article)) {
+                path = "batch";
+                response = analysisBatchService.analyse(article);
+            } else if (chunkedAnalysisService.accepts(article)) {
+                path = "chunked";
+                response = chunkedAnalysisService.analyse(article);
+            } else {
+                ModelAnalysisResponse hedged = hedgedAnalysisService.analyse(utils.buildAnalysisPrompt(article));
+                response = hedged.getResponse();
+                aiModel = hedged.getAiModel();
+                path = hedged.isHedged() ? "hedged" : "single";
+            }
+            metrics.record(AnalysisMetrics.ANALYSE, aiModel, path, stageStart);
+            usage = response.getUsage();
+            if (!utils.isFallbackResponse(response)) {
+                // A hedge answered by the fallback model is kept under that model's key, where lookups for
+                // the configured model do not find it
+                analysisCacheService.store(aiModel.equals(utils.getUsedLLM()) ? fingerprint
+                        : analysisCacheService.fingerprint(article, aiModel), aiModel, response);
+            }
+        }
+        return record(article, response, startTime, aiModel, previousStatus, usage);
+    }
+
+    private Flux<AnalysisStreamEvent> streamAnalysis(Article article) {
+        long startTime = System.currentTimeMillis();
+        if (!utils.isValidForAnalysis(article)) {
+            throw new ArticleNotAnalysableException("Article doesn't meet basic requirements by system-analysis");
+        }
+
+        // Shares the key with blocking analyses: whichever of them starts first makes the only LLM call
+        String fingerprint = analysisCacheService.fingerprint(article);
+        String key = article.getId() + ":" + fingerprint;
+        SingleFlight.Flight<AnalyseResult> flight = inFlightAnalyses.begin(key);
+        if (!flight.owner()) {
+            // Nothing to stream field by field; the client gets the shared outcome when it lands. Its
+            // disconnecting must not cancel the future the other callers wait on.
+            return Mono.fromFuture(flight.result(), true).map(AnalysisStreamEvent::result).flux();
+        }
+
+        ReviewClaim claim;
+        try {
+            claim = beginReview(article);
+        } catch (RuntimeException e) {
+            inFlightAnalyses.end(key, flight, null, e);
+            throw e;
+        }
+        return Flux.defer(() -> reviewStreaming(article, fingerprint, startTime, claim.getPreviousStatus()))
+                .doOnNext(event -> {
+                    if (event.getResult() != null) {
+                        inFlightAnalyses.end(key, flight, event.getResult(), null);
+                    }
+                })
+                // A no-op once the result event has ended the flight
+                .doOnComplete(() -> inFlightAnalyses.end(key, flight, null,
+                        new IllegalStateException("Analysis of " + article.getId() + " ended without a result")))
+                .doOnError(e -> {
+                    abandonReview(article, claim);
+                    inFlightAnalyses.end(key, flight, null, e);
+                })
+                .doOnCancel(() -> {
+                    abandonReview(article, claim);
+                    inFlightAnalyses.end(key, flight, null,
+                            new CancellationException("The streaming client disconnected before the analysis ended"));
+                });
+    }
+
+    private Flux<AnalysisStreamEvent> reviewStreaming(Article article, String fingerprint, long startTime,
+            ArticleStatus previousStatus) {
+        ContentSignals signals = preScreenService.screen(article);
+        if (signals.getPrescreenVerdict() == PreScreenVerdict.REJECTED) {
+            return Mono.fromCallable(() -> AnalysisStreamEvent.result(record(article,
+                    utils.buildPreScreenRejection(signals), startTime, ArticleUtils.PRESCREEN_MODEL,
+                    previousStatus, TokenUsage.none()))).flux();
+        }
+
+        AIAnalysisResponse cached = analysisCacheService.lookup(fingerprint).orElse(null);
+        if (cached != null) {
+            return Flux.fromIterable(streamedFields(cached))
+                    .concatWith(Mono.fromCallable(() -> AnalysisStreamEvent.result(
+                            record(article, cached, startTime, utils.getUsedLLM(), previousStatus,
+                                    TokenUsage.none()))));
+        }
+
+        IncrementalJsonFieldParser parser = new IncrementalJsonFieldParser();
+        StringBuilder completion = new StringBuilder();
+        AtomicReference<TokenUsage> usage = new AtomicReference<>();
+        Flux<AnalysisStreamEvent> fields = aiChatService.stream(utils.buildAnalysisPrompt(article), usage::set)
+                .concatMapIterable(chunk -> {
+                    completion.append(chunk);
+                    return parser.feed(chunk).stream()
+                            .filter(field -> STREAMED_FIELDS.contains(field.path()))
+                            .map(field -> AnalysisStreamEvent.field(field.path(), field.value()))
+                            .toList();
+                });
+
+        Mono<AnalysisStreamEvent> result = Mono.fromCallable(() -> {
+            AIAnalysisResponse response = analysisResponseService.read(
+                    ChatReply.builder().content(completion.toString()).usage(usage.get()).build(),
+                    utils.getUsedLLM());
+            if (!utils.isFallbackResponse(response)) {
+                analysisCacheService.store(fingerprint, utils.getUsedLLM(), response);
+            }
+            return AnalysisStreamEvent.result(record(article, response, startTime, utils.getUsedLLM(),
+                    previousStatus, response.getUsage()));
+        }).subscribeOn(Schedulers.boundedElastic());
+
+        return fields.concatWith(result);
+    }
+
+    private List<AnalysisStreamEvent> streamedFields(AIAnalysisResponse response) {
+        List<AnalysisStreamEvent> events = new ArrayList<>();
+        events.add(AnalysisStreamEvent.field("overallScore", response.getOverallScore()));
+        events.add(AnalysisStreamEvent.field("recommendation", response.getRecommendation()));
+        if (response.getContentQuality() != null) {
+            events.add(AnalysisStreamEvent.field("contentQuality.score", response.getContentQuality().getScore()));
+        }
+        if (response.getGrammar() != null) {
+            events.add(AnalysisStreamEvent.field("grammar.score", response.getGrammar().getScore()));
+        }
+        if (response.getAppropriateness() != null) {
+            events.add(AnalysisStreamEvent.field("appropriateness.score", response.getAppropriateness().getScore()));
+        }
+        if (response.getSeo() != null) {
+            events.add(AnalysisStreamEvent.field("seo.score", response.getSeo().getScore()));
+        }
+        return events;
+    }
+
+    // Claims the article for analysis so an editor's concurrent decision and the AI's cannot both apply, and
+    // so only one analysis reviews it at a time. A claim older than the visibility timeout was left by a
+    // crashed analysis and is taken over.
+    private ReviewClaim beginReview(Article article) {
+        ArticleStatus status = article.getStatus();
+        LocalDateTime staleBefore = LocalDateTime.now().minus(queueConfig.getVisibilityTimeout());
+        ReviewClaim claim = articleStatusService.claimReview(article.getId(), status, staleBefore)
+                .orElseThrow(() -> new IllegalStateException(status == ArticleStatus.UNDER_AI_REVIEW
+                        ? "Article " + article.getId() + " is already being analysed"
+                        : "Article " + article.getId() + " changed status before its analysis"));
+        article.setStatus(ArticleStatus.UNDER_AI_REVIEW);
+        return claim;
+    }
+
+    // Hands a failed analysis back in its previous status, unless someone else moved it on or took it over
+    private void abandonReview(Article article, ReviewClaim claim) {
+        if (articleStatusService.releaseReview(article.getId(), claim)) {
+            article.setStatus(claim.getPreviousStatus());
+        }
+    }
+
+    private AnalyseResult record(Article article, AIAnalysisResponse response, long startTime, String aiModel,
+            ArticleStatus previousStatus, TokenUsage usage) {
         AnalyseHistory historySnapshot = new AnalyseHistory();
 
         // HISTORY RELATED
         historySnapshot.setArticle(article);
-        historySnapshot.setAiModel(utils.getUsedLLM());
+        historySnapshot.setAiModel(aiModel);
         historySnapshot.setFromStatus(article.getStatus());
         historySnapshot.setPerformedBy("AI System");
         // ---------------
 
-        long startTime = System.currentTimeMillis();
-        if (!utils.isValidForAnalysis(article)) {
-            throw new RuntimeException("Article doesn't meet basic requirements by system-analysis");
-        }
-
-        String prompt = utils.buildAnalysisPrompt(article);
-        String aiResponse = chatClient.prompt(prompt).call().content();
         long endTime = System.currentTimeMillis();
         Integer analyzeTimeMs = (int) (endTime - startTime);
 
-        AnalyseResult result = utils.buildApprovalResult(article, utils.parseAIResponse(aiResponse), analyzeTimeMs);
+        AnalyseResult result = utils.buildApprovalResult(article, response, analyzeTimeMs);
+        result.setAiModel(aiModel);
+        // Left null when the provider did not report usage
+        if (usage != null) {
+            result.setPromptTokens(usage.getPromptTokens());
+            result.setCompletionTokens(usage.getCompletionTokens());
+        }
+        long stageStart = metrics.start();
+        OriginalityCheck originality = originalityService.check(article.getId(), article.getCreatedAt(),
+                article.getContent());
+        metrics.record(AnalysisMetrics.ORIGINALITY, aiModel, "checked", stageStart);
+        utils.applyOriginality(result, originality);
+        metrics.decision(result.getDecision(), aiModel);
         // article.setStatus(ArticleStatus.valueOf(result.getDecision().toString()));
         if (result.getDecision().equals(AnalyseDecision.APPROVED)) {
             article.setApprovedAt(LocalDateTime.now());
@@ -82,6 +360,8 @@ public class AIAnalyseServiceImpl implements AIAnalyseService {
             article.setRejectedBy("AI System");
         } else if (result.getDecision().equals(AnalyseDecision.REQUIRES_MANUAL_REVIEW)) {
             article.setStatus(ArticleStatus.MANUAL_REVIEW_REQUIRED);
+        } else {
+            article.setStatus(previousStatus);
         }
 
         // HISTORY RELATED
@@ -90,11 +370,35 @@ public class AIAnalyseServiceImpl implements AIAnalyseService {
         historySnapshot.setNotes(result.getRecommendations());
         historySnapshot.setConfidenceScore(result.getConfidenceScore());
         historySnapshot.setProcessingTimeMs(analyzeTimeMs);
+        historySnapshot.setPromptTokens(result.getPromptTokens());
+        historySnapshot.setCompletionTokens(result.getCompletionTokens());
         // ---------------
 
         article.setFeedback(result.getAiAnalysis());
-        articleRepository.save(article);
-        analyseHistoryRepository.save(historySnapshot);
-        return analyseResultRepository.save(result);
+        // Conditional on the article still being under this review; an editor who decided meanwhile wins
+        stageStart = metrics.start();
+        ArticleStatusChangedEvent statusChanged = new ArticleStatusChangedEvent(article.getId(),
+                historySnapshot.getFromStatus(), article.getStatus());
+        ArticleAnalysedEvent analysed = new ArticleAnalysedEvent(article.getId(), result.getDecision(),
+                result.getConfidenceScore(), analyzeTimeMs, aiModel, result.getAnalyzedAt());
+        boolean applied;
+        try {
+            // Published once the rows commit, which with write-behind may be after this returns
+            applied = analysisOutcomeWriter.write(article, historySnapshot.getFromStatus(), result, historySnapshot,
+                    committed -> {
+                        if (committed) {
+                            eventPublisher.publishEvent(statusChanged);
+                        } else {
+                            log.info("Stored analysis of article {}, but its status was changed concurrently",
+                                    statusChanged.articleId());
+                        }
+                        eventPublisher.publishEvent(analysed);
+                    });
+        } catch (RuntimeException e) {
+            metrics.record(AnalysisMetrics.PERSIST, aiModel, "error", stageStart);
+            throw e;
+        }
+        metrics.record(AnalysisMetrics.PERSIST, aiModel, applied ? "applied" : "conflict", stageStart);
+        return result;
     }
 }
@@ -0,0 +1,192 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.TokenBudgetService;
+import com.regisx001.validationsystem.utils.AICallGuard;
+import com.regisx001.validationsystem.utils.AnalysisMetrics;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+import com.regisx001.validationsystem.utils.ProviderConcurrencyLimiter;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@RequiredArgsConstructor
+public class AIChatServiceImpl implements AIChatService {
+
+    private final ChatClient chatClient;
+    private final ArticleUtils utils;
+    private final ProviderConcurrencyLimiter providerConcurrencyLimiter;
+    private final AICallGuard callGuard;
+    private final AnalysisMetrics metrics;
+    private final TokenBudgetService tokenBudgetService;
+
+    @Override
+    public String call(ChatPrompt prompt) {
+        return call(prompt, utils.getUsedLLM());
+    }
+
+    @Override
+    public String call(ChatPrompt prompt, String model) {
+        return exchange(prompt, model).getContent();
+    }
+
+    @Override
+    public ChatReply exchange(ChatPrompt prompt, String model) {
+        return exchange(prompt, model, () -> Thread.currentThread().isInterrupted(), sentAt -> {
+        });
+    }
+
+    @Override
+    public ChatReply exchange(ChatPrompt prompt, String model, BooleanSupplier abandoned, LongConsumer onSent) {
+        // Rate limiting happens before taking a permit so waiting callers do not hold one
+        int reservedTokens = callGuard.admit(prompt);
+        ProviderConcurrencyLimiter.Permit permit = acquire(model);
+        // Every outcome is timed from here. Permit wait is timed separately by the limiter; counting it
+        // here would make the adaptive rate limiter back off because of its own queueing
+        long start = metrics.start();
+        try (permit) {
+            onSent.accept(start);
+            ChatResponse response = request(prompt, model).call().chatResponse();
+            long providerNanos = System.nanoTime() - start;
+            metrics.record(AnalysisMetrics.LLM, model, "success", start);
+            callGuard.onSuccess(providerNanos);
+            TokenUsage usage = usage(response);
+            callGuard.onUsage(reservedTokens, usage);
+            tokenBudgetService.record(model, usage);
+            return ChatReply.builder()
+                    .content(response != null && response.getResult() != null
+                            ? response.getResult().getOutput().getText()
+                            : null)
+                    .usage(usage)
+                    .providerNanos(providerNanos)
+                    .build();
+        } catch (RuntimeException e) {
+            // A call its caller gave up on says nothing about provider health
+            if (abandoned.getAsBoolean()) {
+                callGuard.onCancel();
+                metrics.record(AnalysisMetrics.LLM, model, "cancelled", start);
+            } else {
+                callGuard.onFailure(e, System.nanoTime() - start);
+                metrics.record(AnalysisMetrics.LLM, model, "error", start);
+            }
+            // The provider may have billed the prompt, and part of a reply, before the call failed or was
+            // abandoned; charging nothing would let failing calls run past the budget unnoticed
+            tokenBudgetService.record(model, callGuard.estimate(prompt));
+            throw e;
+        }
+    }
+
+    @Override
+    public Flux<String> stream(ChatPrompt prompt, Consumer<TokenUsage> onUsage) {
+        // The permit is held until the stream completes, errors or is cancelled by the client
+        return Flux.using(() -> {
+            int reservedTokens = callGuard.admit(prompt);
+            ProviderConcurrencyLimiter.Permit permit = acquire(utils.getUsedLLM());
+            return new StreamCall(System.nanoTime(), reservedTokens, permit, new AtomicReference<>());
+        },
+                // Usage arrives on the final chunk (spring.ai.openai.chat.options.stream-usage)
+                call -> messages(prompt).stream().chatResponse()
+                        .doOnNext(response -> {
+                            TokenUsage usage = usage(response);
+                            if (usage != null) {
+                                call.usage().set(usage);
+                            }
+                        })
+                        .mapNotNull(response -> response.getResult() != null
+                                ? response.getResult().getOutput().getText()
+                                : null)
+                        .doOnComplete(() -> {
+                            callGuard.onSuccess(System.nanoTime() - call.start());
+                            metrics.record(AnalysisMetrics.LLM, utils.getUsedLLM(), "success", call.start());
+                            TokenUsage usage = call.usage().get();
+                            callGuard.onUsage(call.reservedTokens(), usage);
+                            tokenBudgetService.record(utils.getUsedLLM(), usage);
+                            onUsage.accept(usage);
+                        })
+                        .doOnError(e -> {
+                            callGuard.onFailure(e, System.nanoTime() - call.start());
+                            metrics.record(AnalysisMetrics.LLM, utils.getUsedLLM(), "error", call.start());
+                            chargeUnfinished(prompt, call);
+                        })
+                        .doOnCancel(() -> {
+                            callGuard.onCancel();
+                            metrics.record(AnalysisMetrics.LLM, utils.getUsedLLM(), "cancelled", call.start());
+                            chargeUnfinished(prompt, call);
+                        }),
+                call -> call.permit().close())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return callGuard.isAvailable();
+    }
+
+    // Usage is only reported on the final chunk, so a stream cut short is charged the estimate
+    private void chargeUnfinished(ChatPrompt prompt, StreamCall call) {
+        TokenUsage usage = call.usage().get();
+        tokenBudgetService.record(utils.getUsedLLM(), usage != null ? usage : callGuard.estimate(prompt));
+    }
+
+    // A caller interrupted while queued for a permit never sent anything; hand back its circuit probe
+    private ProviderConcurrencyLimiter.Permit acquire(String model) {
+        try {
+            return providerConcurrencyLimiter.acquire(model);
+        } catch (RuntimeException e) {
+            callGuard.onCancel();
+            throw e;
+        }
+    }
+
+    // The system message goes first so the static part of the prompt is a stable prefix
+    private ChatClient.ChatClientRequestSpec messages(ChatPrompt prompt) {
+        ChatClient.ChatClientRequestSpec request = chatClient.prompt();
+        if (prompt.getSystem() != null) {
+            request = request.system(prompt.getSystem());
+        }
+        return request.user(prompt.getUser());
+    }
+
+    private ChatClient.ChatClientRequestSpec request(ChatPrompt prompt, String model) {
+        ChatClient.ChatClientRequestSpec request = messages(prompt);
+        if (!model.equals(utils.getUsedLLM())) {
+            request = request.options(OpenAiChatOptions.builder().model(model).build());
+        }
+        return request;
+    }
+
+    // Null when the provider reported nothing (Spring AI substitutes an all-zero usage)
+    private static TokenUsage usage(ChatResponse response) {
+        if (response == null || response.getMetadata() == null) {
+            return null;
+        }
+        Usage usage = response.getMetadata().getUsage();
+        if (usage == null || usage.getTotalTokens() == null || usage.getTotalTokens() == 0) {
+            return null;
+        }
+        return TokenUsage.builder()
+                .promptTokens(usage.getPromptTokens() != null ? usage.getPromptTokens() : 0)
+                .completionTokens(usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0)
+                .build();
+    }
+
+    private record StreamCall(long start, int reservedTokens, ProviderConcurrencyLimiter.Permit permit,
+            AtomicReference<TokenUsage> usage) {
+    }
+}
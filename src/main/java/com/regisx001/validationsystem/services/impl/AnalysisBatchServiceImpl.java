@@ -0,0 +1,201 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.config.AnalysisBatchConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+import com.regisx001.validationsystem.exceptions.AIUnavailableException;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.AnalysisBatchService;
+import com.regisx001.validationsystem.services.AnalysisResponseService;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class AnalysisBatchServiceImpl implements AnalysisBatchService {
+
+    private final AnalysisBatchConfig config;
+    private final AIChatService aiChatService;
+    private final ArticleUtils utils;
+    private final AnalysisResponseService analysisResponseService;
+
+    private final Counter batchRequests;
+    private final Counter batchedArticles;
+    private final Counter singleFallbacks;
+
+    private final ScheduledExecutorService windowTimer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("AnalysisBatchTimer").daemon().factory());
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Object lock = new Object();
+    private List<PendingArticle> pending = new ArrayList<>();
+    private int pendingTokens;
+    private ScheduledFuture<?> pendingFlush;
+
+    public AnalysisBatchServiceImpl(AnalysisBatchConfig config, AIChatService aiChatService, ArticleUtils utils,
+            AnalysisResponseService analysisResponseService, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.aiChatService = aiChatService;
+        this.utils = utils;
+        this.analysisResponseService = analysisResponseService;
+        this.batchRequests = Counter.builder("analysis.batch.requests").register(meterRegistry);
+        this.batchedArticles = Counter.builder("analysis.batch.articles").register(meterRegistry);
+        this.singleFallbacks = Counter.builder("analysis.batch.fallbacks").register(meterRegistry);
+    }
+
+    @Override
+    public boolean accepts(Article article) {
+        return config.isEnabled() && utils.estimateTokens(article.getContent()) <= config.getMaxArticleTokens()
+                && screenedClean(article.getSignals());
+    }
+
+    @Override
+    public AIAnalysisResponse analyse(Article article) {
+        PendingArticle entry = new PendingArticle(article, utils.estimateTokens(article.getContent()),
+                new CompletableFuture<>());
+        List<List<PendingArticle>> ready = new ArrayList<>(2);
+
+        synchronized (lock) {
+            if (!pending.isEmpty() && pendingTokens + entry.tokens() > config.getTokenBudget()) {
+                ready.add(drain());
+            }
+            pending.add(entry);
+            pendingTokens += entry.tokens();
+            if (pending.size() >= config.getMaxBatchSize() || pendingTokens >= config.getTokenBudget()) {
+                ready.add(drain());
+            } else if (pendingFlush == null) {
+                pendingFlush = windowTimer.schedule(this::flushWindow, config.getWindow().toMillis(),
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+
+        ready.forEach(batch -> senders.execute(() -> send(batch)));
+        return await(entry.result());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        windowTimer.shutdownNow();
+        senders.shutdown();
+    }
+
+    private void flushWindow() {
+        List<PendingArticle> batch;
+        synchronized (lock) {
+            pendingFlush = null;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = drain();
+        }
+        senders.execute(() -> send(batch));
+    }
+
+    // Caller must hold lock
+    private List<PendingArticle> drain() {
+        List<PendingArticle> batch = pending;
+        pending = new ArrayList<>();
+        pendingTokens = 0;
+        if (pendingFlush != null) {
+            pendingFlush.cancel(false);
+            pendingFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<PendingArticle> batch) {
+        if (batch.size() == 1) {
+            analyseSingle(batch.get(0));
+            return;
+        }
+
+        List<AIAnalysisResponse> responses;
+        TokenUsage usage = null;
+        try {
+            List<Article> articles = batch.stream().map(PendingArticle::article).toList();
+            ChatReply reply = aiChatService.exchange(utils.buildBatchAnalysisPrompt(articles), utils.getUsedLLM());
+            responses = utils.parseBatchAIResponse(reply.getContent(), batch.size());
+            usage = reply.getUsage();
+            batchRequests.increment();
+        } catch (AIUnavailableException e) {
+            // Splitting the batch would only multiply calls the provider is refusing
+            batch.forEach(entry -> entry.result().completeExceptionally(e));
+            return;
+        } catch (Exception e) {
+            log.warn("Batched analysis of {} articles failed, retrying individually: {}", batch.size(),
+                    e.getMessage());
+            responses = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                responses.add(null);
+            }
+        }
+
+        // The shared call's tokens are attributed to each article in proportion to its length
+        int batchTokens = batch.stream().mapToInt(PendingArticle::tokens).sum();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingArticle entry = batch.get(i);
+            AIAnalysisResponse response = responses.get(i);
+            if (response != null) {
+                batchedArticles.increment();
+                if (usage != null) {
+                    response.setUsage(usage.share((double) entry.tokens() / Math.max(batchTokens, 1)));
+                }
+                entry.result().complete(response);
+            } else {
+                singleFallbacks.increment();
+                senders.execute(() -> analyseSingle(entry));
+            }
+        }
+    }
+
+    private void analyseSingle(PendingArticle entry) {
+        try {
+            ChatPrompt prompt = utils.buildAnalysisPrompt(entry.article());
+            ChatReply reply = aiChatService.exchange(prompt, utils.getUsedLLM());
+            entry.result().complete(analysisResponseService.read(reply, utils.getUsedLLM()));
+        } catch (RuntimeException e) {
+            entry.result().completeExceptionally(e);
+        }
+    }
+
+    // Unscreened articles are not batched either; see AnalysisBatchConfig.maxSpamScore
+    private boolean screenedClean(ContentSignals signals) {
+        return signals != null && signals.getSpamScore() != null
+                && signals.getSpamScore() <= config.getMaxSpamScore()
+                && (signals.getBannedTermHits() == null || signals.getBannedTermHits() == 0);
+    }
+
+    private static AIAnalysisResponse await(CompletableFuture<AIAnalysisResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record PendingArticle(Article article, int tokens, CompletableFuture<AIAnalysisResponse> result) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.regisx001.validationsystem.config.AIPromptTemplates;
+import com.regisx001.validationsystem.config.AnalysisCacheConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.entities.AnalysisCacheEntry;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.repositories.AnalysisCacheRepository;
+import com.regisx001.validationsystem.services.AnalysisCacheService;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+import com.regisx001.validationsystem.utils.ContentHashing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class AnalysisCacheServiceImpl implements AnalysisCacheService {
+
+    private final AnalysisCacheConfig config;
+    private final AnalysisCacheRepository analysisCacheRepository;
+    private final ObjectMapper objectMapper;
+    private final ArticleUtils utils;
+
+    private final Map<String, AIAnalysisResponse> memoryTier;
+
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    public AnalysisCacheServiceImpl(AnalysisCacheConfig config, AnalysisCacheRepository analysisCacheRepository,
+            ObjectMapper objectMapper, ArticleUtils utils, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.analysisCacheRepository = analysisCacheRepository;
+        this.objectMapper = objectMapper;
+        this.utils = utils;
+
+        int maxEntries = config.getMaxEntries();
+        this.memoryTier = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AIAnalysisResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.memoryHits = Counter.builder("analysis.cache.lookups").tag("result", "hit").tag("tier", "memory")
+                .register(meterRegistry);
+        this.databaseHits = Counter.builder("analysis.cache.lookups").tag("result", "hit").tag("tier", "database")
+                .register(meterRegistry);
+        this.misses = Counter.builder("analysis.cache.lookups").tag("result", "miss").tag("tier", "none")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String fingerprint(Article article) {
+        return fingerprint(article, utils.getUsedLLM());
+    }
+
+    @Override
+    public String fingerprint(Article article, String model) {
+        return ContentHashing.fingerprint(AIPromptTemplates.CONTENT_ANALYSIS_PROMPT_VERSION, model,
+                article.getTitle(), article.getContent());
+    }
+
+    @Override
+    public Optional<AIAnalysisResponse> lookup(String fingerprint) {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+
+        AIAnalysisResponse cached;
+        synchronized (memoryTier) {
+            cached = memoryTier.get(fingerprint);
+        }
+        if (cached != null) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<AIAnalysisResponse> persisted = analysisCacheRepository.findById(fingerprint)
+                .flatMap(this::readResponse);
+        if (persisted.isPresent()) {
+            databaseHits.increment();
+            synchronized (memoryTier) {
+                memoryTier.put(fingerprint, persisted.get());
+            }
+            return persisted;
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void store(String fingerprint, String model, AIAnalysisResponse response) {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        synchronized (memoryTier) {
+            memoryTier.put(fingerprint, response);
+        }
+
+        try {
+            analysisCacheRepository.save(AnalysisCacheEntry.builder()
+                    .fingerprint(fingerprint)
+                    .aiModel(model)
+                    .promptVersion(AIPromptTemplates.CONTENT_ANALYSIS_PROMPT_VERSION)
+                    .responseJson(objectMapper.writeValueAsString(response))
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.warn("Could not persist cached analysis {}: {}", fingerprint, e.getMessage());
+        }
+    }
+
+    private Optional<AIAnalysisResponse> readResponse(AnalysisCacheEntry entry) {
+        try {
+            return Optional.of(objectMapper.readValue(entry.getResponseJson(), AIAnalysisResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable cached analysis {}: {}", entry.getFingerprint(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
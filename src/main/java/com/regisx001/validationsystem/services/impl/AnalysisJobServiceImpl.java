@@ -0,0 +1,319 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.regisx001.validationsystem.config.AnalysisExecutorConfig;
+import com.regisx001.validationsystem.config.AnalysisJobQueueConfig;
+import com.regisx001.validationsystem.domain.entities.AnalysisJob;
+import com.regisx001.validationsystem.domain.enums.AnalysisJobStatus;
+import com.regisx001.validationsystem.domain.enums.AnalysisPriority;
+import com.regisx001.validationsystem.exceptions.AIUnavailableException;
+import com.regisx001.validationsystem.exceptions.ArticleNotAnalysableException;
+import com.regisx001.validationsystem.repositories.AnalysisJobRepository;
+import com.regisx001.validationsystem.services.AIAnalyseService;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.AnalysisJobService;
+import com.regisx001.validationsystem.services.ArticleStatusService;
+import com.regisx001.validationsystem.services.TokenBudgetService;
+import com.regisx001.validationsystem.utils.AfterCommit;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisJobServiceImpl implements AnalysisJobService {
+
+    private static final String WORKER_PREFIX = ManagementFactory.getRuntimeMXBean().getName() + "-worker-";
+
+    private static final List<String> ALL_PRIORITIES = Arrays.stream(AnalysisPriority.values())
+            .map(AnalysisPriority::name).toList();
+    private static final List<String> URGENT_PRIORITIES = Arrays.stream(AnalysisPriority.values())
+            .filter(priority -> priority != AnalysisPriority.LOW).map(AnalysisPriority::name).toList();
+
+    // uk_analysis_jobs_active_article allows one active job per article; a submit that loses the race
+    // inserts nothing instead of failing, which would abort the caller's transaction
+    private static final String INSERT_JOB = """
+            INSERT INTO analysis_jobs (id, article_id, status, priority, attempts, available_at, rerun,
+                created_at, updated_at)
+            VALUES (?, ?, 'PENDING', ?, 0, ?, FALSE, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final AnalysisJobQueueConfig config;
+    private final AnalysisExecutorConfig executorConfig;
+    private final AnalysisJobRepository analysisJobRepository;
+    private final AIAnalyseService aiAnalyseService;
+    private final AIChatService aiChatService;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenBudgetService tokenBudgetService;
+    private final ArticleStatusService articleStatusService;
+    private final ArticleUtils utils;
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    @Override
+    public void submit(UUID articleId, AnalysisPriority priority) {
+        // Without the queue there is nowhere to defer to, so the budget is not consulted. The analysis
+        // starts once the caller's transaction commits, so it sees the article it was submitted for.
+        if (!config.isEnabled()) {
+            AfterCommit.run(() -> aiAnalyseService.analyseArticle(articleId));
+            return;
+        }
+
+        if (analysisJobRepository.absorbSubmit(articleId, priority.name(), LocalDateTime.now()) > 0) {
+            return;
+        }
+
+        // Plain JDBC, so the caller's session holds no entity for a row that may not have been inserted
+        LocalDateTime now = LocalDateTime.now();
+        if (jdbcTemplate.update(INSERT_JOB, UUID.randomUUID(), articleId, priority.name(), now, now, now) == 0) {
+            log.debug("Article {} was queued for analysis concurrently", articleId);
+            analysisJobRepository.absorbSubmit(articleId, priority.name(), now);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWorkers() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        running = true;
+        if (executorConfig.getMode() == AnalysisExecutorConfig.Mode.VIRTUAL) {
+            // A virtual thread per claimed job is cheap, so in-flight jobs are bounded by the primary
+            // model's provider permits rather than by worker-concurrency; one dispatcher polls the table
+            int slots = executorConfig.permitsFor(utils.getUsedLLM());
+            workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("AnalysisWorker-", 0).factory());
+            workers.submit(() -> dispatch(new Semaphore(slots)));
+            log.info("Started the analysis queue dispatcher for up to {} concurrent jobs", slots);
+            return;
+        }
+
+        workers = Executors.newFixedThreadPool(config.getWorkerConcurrency(),
+                Thread.ofPlatform().name("AnalysisWorker-", 0).factory());
+        for (int i = 0; i < config.getWorkerConcurrency(); i++) {
+            String workerId = WORKER_PREFIX + i;
+            workers.submit(() -> runWorker(workerId));
+        }
+        log.info("Started {} analysis queue workers", config.getWorkerConcurrency());
+    }
+
+    @PreDestroy
+    public void stopWorkers() throws InterruptedException {
+        running = false;
+        if (workers != null) {
+            workers.shutdownNow();
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void runWorker(String workerId) {
+        while (running) {
+            try {
+                AnalysisJob job = next(workerId);
+                if (job == null) {
+                    Thread.sleep(config.getPollInterval().toMillis());
+                    continue;
+                }
+                process(job, workerId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Analysis worker {} failed to poll the queue: {}", workerId, e.getMessage(), e);
+                sleepQuietly(config.getPollInterval());
+            }
+        }
+    }
+
+    // Claims jobs while a slot is free and runs each on its own virtual thread
+    private void dispatch(Semaphore slots) {
+        AtomicLong sequence = new AtomicLong();
+        while (running) {
+            try {
+                slots.acquire();
+                String workerId = WORKER_PREFIX + sequence.incrementAndGet();
+                AnalysisJob job = null;
+                try {
+                    job = next(workerId);
+                    if (job != null) {
+                        AnalysisJob claimed = job;
+                        workers.submit(() -> {
+                            try {
+                                process(claimed, workerId);
+                            } finally {
+                                slots.release();
+                            }
+                        });
+                    }
+                } finally {
+                    if (job == null) {
+                        slots.release();
+                    }
+                }
+                if (job == null) {
+                    Thread.sleep(config.getPollInterval().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Analysis queue dispatcher failed to poll the queue: {}", e.getMessage(), e);
+                sleepQuietly(config.getPollInterval());
+            }
+        }
+    }
+
+    // Leaves jobs in the table while the provider circuit is open rather than claiming work that
+    // would only burn an attempt
+    private AnalysisJob next(String workerId) {
+        return aiChatService.isAvailable() ? claim(workerId) : null;
+    }
+
+    private AnalysisJob claim(String workerId) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            // LOW jobs stay queued while the token budget is nearly spent
+            List<String> priorities = tokenBudgetService.isConstrained(utils.getUsedLLM()) ? URGENT_PRIORITIES
+                    : ALL_PRIORITIES;
+            while (true) {
+                List<AnalysisJob> jobs = analysisJobRepository.lockNextBatch(now, priorities, 1);
+                if (jobs.isEmpty()) {
+                    return null;
+                }
+
+                AnalysisJob job = jobs.get(0);
+                if (job.getStatus() == AnalysisJobStatus.RUNNING) {
+                    // The worker that claimed the article for review is gone; hand it back so the retry,
+                    // or an editor when there is none, can pick it up
+                    articleStatusService.releaseStaleReview(job.getArticleId(), job.getLockedUntil());
+                }
+
+                // Its worker died or overran the visibility timeout on the last attempt it had
+                if (job.getStatus() == AnalysisJobStatus.RUNNING && job.getAttempts() >= config.getMaxAttempts()
+                        && !job.getRerun()) {
+                    job.setStatus(AnalysisJobStatus.FAILED);
+                    job.setLockedBy(null);
+                    job.setLockedUntil(null);
+                    job.setLastError("Visibility timeout expired on the last attempt");
+                    analysisJobRepository.saveAndFlush(job);
+                    continue;
+                }
+
+                if (job.getStatus() == AnalysisJobStatus.RUNNING && job.getRerun()) {
+                    job.setAttempts(0);
+                    job.setRerun(false);
+                }
+                job.setStatus(AnalysisJobStatus.RUNNING);
+                job.setLockedBy(workerId);
+                job.setLockedUntil(now.plus(config.getVisibilityTimeout()));
+                job.setAttempts(job.getAttempts() + 1);
+                return analysisJobRepository.save(job);
+            }
+        });
+    }
+
+    private void process(AnalysisJob job, String workerId) {
+        try {
+            aiAnalyseService.analyseArticleManual(job.getArticleId());
+            finish(job.getId(), workerId, null);
+        } catch (AIUnavailableException e) {
+            log.debug("Deferring analysis job {}: {}", job.getId(), e.getMessage());
+            defer(job.getId(), workerId, e.getRetryAfter());
+        } catch (Exception e) {
+            log.warn("Analysis job {} for article {} failed (attempt {}): {}", job.getId(), job.getArticleId(),
+                    job.getAttempts(), e.getMessage());
+            finish(job.getId(), workerId, e);
+        }
+    }
+
+    // A deleted article or content the system refuses to analyse fails the same way on every attempt
+    private static boolean isRetryable(Exception failure) {
+        return !(failure instanceof IllegalArgumentException || failure instanceof ArticleNotAnalysableException);
+    }
+
+    private void finish(UUID jobId, String workerId, Exception failure) {
+        transactionTemplate.executeWithoutResult(status -> {
+            AnalysisJob job = analysisJobRepository.findForUpdate(jobId).orElse(null);
+            // The visibility timeout expired and another worker owns the job now
+            if (job == null || !workerId.equals(job.getLockedBy())) {
+                return;
+            }
+
+            job.setLockedBy(null);
+            job.setLockedUntil(null);
+            if (job.getRerun()) {
+                // The content changed during this run, so its outcome is already stale either way
+                job.setStatus(AnalysisJobStatus.PENDING);
+                job.setAvailableAt(LocalDateTime.now());
+                job.setAttempts(0);
+                job.setRerun(false);
+                job.setLastError(failure != null ? failure.getMessage() : null);
+            } else if (failure == null) {
+                job.setStatus(AnalysisJobStatus.COMPLETED);
+                job.setLastError(null);
+            } else if (!isRetryable(failure) || job.getAttempts() >= config.getMaxAttempts()) {
+                job.setStatus(AnalysisJobStatus.FAILED);
+                job.setLastError(failure.getMessage());
+            } else {
+                job.setStatus(AnalysisJobStatus.PENDING);
+                job.setAvailableAt(LocalDateTime.now().plus(backoff(job.getAttempts())));
+                job.setLastError(failure.getMessage());
+            }
+            analysisJobRepository.save(job);
+        });
+    }
+
+    // Provider back-pressure is not the job's fault, so it does not count as an attempt
+    private void defer(UUID jobId, String workerId, Duration retryAfter) {
+        transactionTemplate.executeWithoutResult(status -> {
+            AnalysisJob job = analysisJobRepository.findForUpdate(jobId).orElse(null);
+            if (job == null || !workerId.equals(job.getLockedBy())) {
+                return;
+            }
+
+            job.setLockedBy(null);
+            job.setLockedUntil(null);
+            job.setStatus(AnalysisJobStatus.PENDING);
+            job.setAttempts(Math.max(0, job.getAttempts() - 1));
+            job.setAvailableAt(LocalDateTime.now().plus(retryAfter.isZero() ? config.getPollInterval() : retryAfter));
+            analysisJobRepository.save(job);
+        });
+    }
+
+    private Duration backoff(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration delay = config.getInitialBackoff().multipliedBy(factor);
+        return delay.compareTo(config.getMaxBackoff()) > 0 ? config.getMaxBackoff() : delay;
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.regisx001.validationsystem.config.AnalysisPersistenceConfig;
+import com.regisx001.validationsystem.domain.entities.AnalyseHistory;
+import com.regisx001.validationsystem.domain.entities.AnalyseResult;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.services.AnalysisOutcomeWriter;
+import com.regisx001.validationsystem.utils.AfterCommit;
+import com.regisx001.validationsystem.utils.ContentHashing;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Group commit for analysis outcomes: concurrent workers enqueue, a single writer drains
+// the queue and stores each batch in one transaction with three JDBC batches. With
+// reWriteBatchedInserts the inserts go out as multi-row INSERTs.
+@Service
+@Slf4j
+public class AnalysisOutcomeWriterImpl implements AnalysisOutcomeWriter {
+
+    private static final String UPDATE_ARTICLE = """
+            UPDATE articles SET status = ?, feedback = ?, approved_at = ?, approved_by = ?, rejected_at = ?,
+                rejected_by = ?, updated_at = ?
+            WHERE id = ? AND status = ?
+            """;
+
+    // An edit during the analysis has already stored signals for the new content
+    private static final String UPDATE_SIGNALS = """
+            UPDATE articles SET word_count = ?, sentence_count = ?, readability_score = ?, longest_char_run = ?,
+                uppercase_ratio = ?, link_count = ?, banned_term_hits = ?, spam_score = ?, prescreen_verdict = ?,
+                prescreen_reason = ?, screened_at = ?
+            WHERE id = ? AND (content_hash = ? OR content_hash IS NULL)
+            """;
+
+    private static final String INSERT_RESULT = """
+            INSERT INTO analyse_results (id, article_id, decision, confidence_score, ai_analysis, recommendations,
+                readability_score, grammar_score, seo_score, originality_score, analyzed_at, ai_model,
+                processing_time_ms, prompt_tokens, completion_tokens)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_HISTORY = """
+            INSERT INTO analyse_histories (id, article_id, from_status, to_status, performed_by, reason, notes,
+                metadata, confidence_score, ai_model, processing_time_ms, created_at, updated_at, prompt_tokens,
+                completion_tokens)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final AnalysisPersistenceConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSizes;
+
+    private final BlockingQueue<Outcome> queue;
+    private final Thread writer;
+    private volatile boolean running;
+
+    public AnalysisOutcomeWriterImpl(AnalysisPersistenceConfig config, JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSizes = DistributionSummary.builder("analysis.persistence.batch.size").register(meterRegistry);
+        this.queue = new LinkedBlockingQueue<>(config.getQueueCapacity());
+        Gauge.builder("analysis.persistence.queue", queue, BlockingQueue::size).register(meterRegistry);
+        this.writer = Thread.ofPlatform().name("AnalysisOutcomeWriter").daemon().unstarted(this::drain);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (config.isWriteBehind()) {
+            running = true;
+            writer.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // The writer empties the queue before exiting; anything queued after it stopped is written here
+        running = false;
+        if (writer.isAlive()) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        List<Outcome> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    @Override
+    public boolean write(Article article, ArticleStatus expectedStatus, AnalyseResult result, AnalyseHistory history,
+            Consumer<Boolean> onCommit) {
+        // Ids and timestamps are assigned here since no entity lifecycle callbacks run
+        LocalDateTime now = LocalDateTime.now();
+        result.setId(UUID.randomUUID());
+        result.setAnalyzedAt(now);
+        history.setId(UUID.randomUUID());
+        history.setCreatedAt(now);
+        history.setUpdatedAt(now);
+        article.setUpdatedAt(now);
+
+        Outcome outcome = new Outcome(article, expectedStatus, result, history, onCommit, new CompletableFuture<>());
+        if (!config.isWriteBehind() || !running) {
+            flush(List.of(outcome));
+        } else {
+            try {
+                queue.put(outcome);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while queueing an analysis outcome", e);
+            }
+            if (!config.isAwaitCommit()) {
+                // Not known yet; reported optimistically
+                return true;
+            }
+        }
+
+        try {
+            return outcome.committed().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void drain() {
+        List<Outcome> batch = new ArrayList<>(config.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Outcome first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + config.getMaxDelay().toNanos();
+                while (batch.size() < config.getMaxBatchSize()) {
+                    Outcome next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Write what is already queued, then exit
+                queue.drainTo(batch);
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Outcome> batch) {
+        try {
+            boolean[] applied = transactionTemplate.execute(status -> {
+                int[][] updated = jdbcTemplate.batchUpdate(UPDATE_ARTICLE, batch, batch.size(), (ps, outcome) -> {
+                    Article article = outcome.article();
+                    ps.setString(1, article.getStatus().name());
+                    ps.setString(2, article.getFeedback());
+                    ps.setObject(3, article.getApprovedAt());
+                    ps.setString(4, article.getApprovedBy());
+                    ps.setObject(5, article.getRejectedAt());
+                    ps.setString(6, article.getRejectedBy());
+                    ps.setObject(7, article.getUpdatedAt());
+                    ps.setObject(8, article.getId());
+                    ps.setString(9, outcome.expectedStatus().name());
+                });
+                boolean[] won = new boolean[batch.size()];
+                for (int i = 0; i < won.length; i++) {
+                    won[i] = updated[0][i] != 0;
+                }
+
+                // Signals describe the content, not the transition, so they are kept whichever writer won
+                List<Article> screened = batch.stream().map(Outcome::article)
+                        .filter(article -> article.getSignals() != null)
+                        .toList();
+                jdbcTemplate.batchUpdate(UPDATE_SIGNALS, screened, screened.size(), (ps, article) -> {
+                    ContentSignals signals = article.getSignals();
+                    ps.setObject(1, signals.getWordCount());
+                    ps.setObject(2, signals.getSentenceCount());
+                    ps.setObject(3, signals.getReadabilityScore());
+                    ps.setObject(4, signals.getLongestCharRun());
+                    ps.setObject(5, signals.getUppercaseRatio());
+                    ps.setObject(6, signals.getLinkCount());
+                    ps.setObject(7, signals.getBannedTermHits());
+                    ps.setObject(8, signals.getSpamScore());
+                    ps.setString(9, signals.getPrescreenVerdict() != null ? signals.getPrescreenVerdict().name()
+                            : null);
+                    ps.setString(10, signals.getPrescreenReason());
+                    ps.setObject(11, signals.getScreenedAt());
+                    ps.setObject(12, article.getId());
+                    ps.setString(13, ContentHashing.fingerprint(article.getContent()));
+                });
+
+                List<AnalyseResult> results = batch.stream().map(Outcome::result).toList();
+                jdbcTemplate.batchUpdate(INSERT_RESULT, results, results.size(), (ps, result) -> {
+                    ps.setObject(1, result.getId());
+                    ps.setObject(2, result.getArticle().getId());
+                    ps.setString(3, result.getDecision().name());
+                    ps.setObject(4, result.getConfidenceScore());
+                    ps.setString(5, result.getAiAnalysis());
+                    ps.setString(6, result.getRecommendations());
+                    ps.setObject(7, result.getReadabilityScore());
+                    ps.setObject(8, result.getGrammarScore());
+                    ps.setObject(9, result.getSeoScore());
+                    ps.setObject(10, result.getOriginalityScore());
+                    ps.setObject(11, result.getAnalyzedAt());
+                    ps.setString(12, result.getAiModel());
+                    ps.setObject(13, result.getProcessingTimeMs());
+                    ps.setObject(14, result.getPromptTokens());
+                    ps.setObject(15, result.getCompletionTokens());
+                });
+
+                // The result is kept either way, but a transition that lost to another writer did not happen
+                List<AnalyseHistory> histories = new ArrayList<>(batch.size());
+                for (int i = 0; i < won.length; i++) {
+                    if (won[i]) {
+                        histories.add(batch.get(i).history());
+                    }
+                }
+                jdbcTemplate.batchUpdate(INSERT_HISTORY, histories, histories.size(), (ps, history) -> {
+                    ps.setObject(1, history.getId());
+                    ps.setObject(2, history.getArticle().getId());
+                    ps.setString(3, history.getFromStatus() != null ? history.getFromStatus().name() : null);
+                    ps.setString(4, history.getToStatus() != null ? history.getToStatus().name() : null);
+                    ps.setString(5, history.getPerformedBy());
+                    ps.setString(6, history.getReason());
+                    ps.setString(7, history.getNotes());
+                    ps.setString(8, history.getMetadata());
+                    ps.setObject(9, history.getConfidenceScore());
+                    ps.setString(10, history.getAiModel());
+                    ps.setObject(11, history.getProcessingTimeMs());
+                    ps.setObject(12, history.getCreatedAt());
+                    ps.setObject(13, history.getUpdatedAt());
+                    ps.setObject(14, history.getPromptTokens());
+                    ps.setObject(15, history.getCompletionTokens());
+                });
+                for (int i = 0; i < won.length; i++) {
+                    notifyAfterCommit(batch.get(i), won[i]);
+                }
+                return won;
+            });
+            batchSizes.record(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).committed().complete(applied[i]);
+            }
+        } catch (RuntimeException e) {
+            // One bad row rolls back the whole group; retry individually so only that outcome fails
+            if (batch.size() > 1) {
+                log.warn("Failed to store {} analysis outcomes together, retrying one by one: {}", batch.size(),
+                        e.getMessage());
+                batch.forEach(outcome -> flush(List.of(outcome)));
+                return;
+            }
+            log.error("Failed to store analysis outcome: {}", e.getMessage(), e);
+            batch.get(0).committed().completeExceptionally(e);
+        }
+    }
+
+    // Listeners only ever see committed rows, whether or not the caller waited for the flush. A listener
+    // failure is logged rather than thrown: the rows are committed and must not be written again.
+    private static void notifyAfterCommit(Outcome outcome, boolean applied) {
+        AfterCommit.run(() -> {
+            try {
+                outcome.onCommit().accept(applied);
+            } catch (RuntimeException e) {
+                log.warn("Failed to publish the outcome of article {}: {}", outcome.article().getId(),
+                        e.getMessage(), e);
+            }
+        });
+    }
+
+    private record Outcome(Article article, ArticleStatus expectedStatus, AnalyseResult result,
+            AnalyseHistory history, Consumer<Boolean> onCommit, CompletableFuture<Boolean> committed) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.AnalysisResponseService;
+import com.regisx001.validationsystem.utils.AnalysisMetrics;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisResponseServiceImpl implements AnalysisResponseService {
+
+    // Enough of an unreadable reply to see what went wrong without flooding the log
+    private static final int LOGGED_REPLY_CHARS = 500;
+
+    private final AIChatService aiChatService;
+    private final ArticleUtils utils;
+    private final AnalysisPromptConfig config;
+    private final AnalysisMetrics metrics;
+
+    @Override
+    public AIAnalysisResponse read(ChatReply reply, String model) {
+        AIAnalysisResponse response = utils.readAIResponse(reply.getContent()).orElse(null);
+        if (response == null) {
+            log.debug("Unreadable analysis reply from {}: {}", model, abbreviate(reply.getContent()));
+            return withUsage(utils.fallbackResponse(), reply.getUsage());
+        }
+        response.setUsage(reply.getUsage());
+
+        List<String> missing = utils.missingFields(response);
+        if (missing.isEmpty()) {
+            return response;
+        }
+        if (!config.isRepairMissingFields()) {
+            return withUsage(utils.fallbackResponse(), reply.getUsage());
+        }
+
+        TokenUsage usage = reply.getUsage();
+        try {
+            ChatReply repair = aiChatService.exchange(utils.buildRepairPrompt(response, missing), model);
+            usage = usage != null ? usage.plus(repair.getUsage()) : repair.getUsage();
+            utils.readAIResponse(repair.getContent()).ifPresent(patch -> utils.applyRepair(response, patch, missing));
+        } catch (RuntimeException e) {
+            // The first reply already cost a call; a failed repair only loses the fields it asked for
+            log.warn("Could not repair analysis fields {} from {}: {}", missing, model, e.getMessage());
+        }
+
+        if (!utils.missingFields(response).isEmpty()) {
+            metrics.repair(model, "failed");
+            return withUsage(utils.fallbackResponse(), usage);
+        }
+        metrics.repair(model, "repaired");
+        response.setUsage(usage);
+        return response;
+    }
+
+    private static AIAnalysisResponse withUsage(AIAnalysisResponse response, TokenUsage usage) {
+        response.setUsage(usage);
+        return response;
+    }
+
+    private static String abbreviate(String text) {
+        if (text == null || text.length() <= LOGGED_REPLY_CHARS) {
+            return text;
+        }
+        return text.substring(0, LOGGED_REPLY_CHARS) + "...";
+    }
+}
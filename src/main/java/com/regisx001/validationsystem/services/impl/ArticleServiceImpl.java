@@ -1,17 +1,42 @@
 package com.regisx001.validationsystem.services.impl;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.regisx001.validationsystem.config.AnalysisChunkConfig;
+import com.regisx001.validationsystem.domain.dtos.ArticleSummary;
+import com.regisx001.validationsystem.domain.dtos.CursorPage;
+import com.regisx001.validationsystem.domain.dtos.StatusTransition;
 import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+import com.regisx001.validationsystem.domain.enums.AnalysisPriority;
+import com.regisx001.validationsystem.domain.enums.ArticleListOrder;
 import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.domain.enums.TotalCountMode;
+import com.regisx001.validationsystem.domain.events.ArticleStatusChangedEvent;
+import com.regisx001.validationsystem.domain.events.ArticleUpdatedEvent;
+import com.regisx001.validationsystem.exceptions.ArticleConflictException;
 import com.regisx001.validationsystem.repositories.ArticleRepository;
-import com.regisx001.validationsystem.services.AIAnalyseService;
+import com.regisx001.validationsystem.services.AnalysisJobService;
 import com.regisx001.validationsystem.services.ArticleService;
+import com.regisx001.validationsystem.services.ArticleStatusService;
+import com.regisx001.validationsystem.services.OriginalityService;
+import com.regisx001.validationsystem.utils.AfterCommit;
+import com.regisx001.validationsystem.utils.ArticleCursor;
+import com.regisx001.validationsystem.utils.ArticleReadCache;
+import com.regisx001.validationsystem.utils.ContentHashing;
+import com.regisx001.validationsystem.utils.ContentScanner;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,10 +46,22 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ArticleServiceImpl implements ArticleService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ArticleRepository articleRepository;
-    private final AIAnalyseService aiAnalyseService;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisChunkConfig analysisChunkConfig;
+    private final OriginalityService originalityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleReadCache articleReadCache;
+    private final ArticleStatusService articleStatusService;
+
+    private volatile boolean estimateSupported = true;
 
+    // The article and its analysis job commit together, so a crash in between cannot leave a draft
+    // that is never analysed
     @Override
+    @Transactional
     public Article createArticle(Article article) {
 
         if (article.getTitle() == null || article.getTitle().trim().isEmpty()) {
@@ -37,9 +74,17 @@ public class ArticleServiceImpl implements ArticleService {
 
         article.setIsPublished(false);
         article.setStatus(ArticleStatus.DRAFT);
+        // List views read the word count from here instead of loading the content
+        article.setSignals(ContentSignals.builder().wordCount(ContentScanner.countWords(article.getContent())).build());
+        article.setContentHash(ContentHashing.fingerprint(article.getContent()));
         Article savedArticle = articleRepository.save(article);
+        // A rolled-back draft must not linger in the in-memory similarity index
+        AfterCommit.run(() -> originalityService.index(savedArticle.getId(), savedArticle.getCreatedAt(),
+                savedArticle.getContent()));
+        eventPublisher.publishEvent(new ArticleStatusChangedEvent(savedArticle.getId(), null, ArticleStatus.DRAFT));
 
-        aiAnalyseService.analyseArticle(savedArticle.getId());
+        // Nobody is waiting on a fresh draft's analysis; it yields to manual reviews when tokens run short
+        analysisJobService.submit(savedArticle.getId(), AnalysisPriority.LOW);
         return savedArticle;
     }
 
@@ -50,38 +95,87 @@ public class ArticleServiceImpl implements ArticleService {
             throw new IllegalArgumentException("Article ID cannot be null");
         }
 
+        return articleReadCache.article(id, this::findArticle);
+    }
+
+    // Writers load their own managed copy; the cached instance is shared with readers
+    private Article findArticle(UUID id) {
         return articleRepository.findById(id)
                 .orElseThrow(() -> {
                     return new IllegalArgumentException("Article not found with ID: " + id);
                 });
     }
 
+    // One transaction for the status transition and the field changes, so a failure in either leaves both out
     @Override
-    public Article updateArticle(UUID id, Article article) {
+    @Transactional
+    public Article updateArticle(UUID id, Article article, ArticleStatus expectedStatus) {
 
         if (id == null) {
             throw new IllegalArgumentException("Article ID cannot be null");
         }
 
-        Article existingArticle = getArticleById(id);
+        // Status (with its feedback and approver / rejecter) goes through a conditional UPDATE on the status the
+        // client decided from, so an editor cannot overwrite an AI decision that landed after they loaded the
+        // article, nor the AI an editor's
+        if (article.getStatus() != null) {
+            if (expectedStatus == null) {
+                throw new IllegalStateException("Changing the status requires the status it was decided from");
+            }
+            ArticleStatus currentStatus = articleRepository.findStatusById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Article not found with ID: " + id));
+            boolean applied = currentStatus == expectedStatus
+                    && articleStatusService.transition(StatusTransition.builder()
+                            .articleId(id)
+                            .expectedStatus(expectedStatus)
+                            .targetStatus(article.getStatus())
+                            .feedback(article.getFeedback())
+                            .actor(article.getApprovedBy() != null ? article.getApprovedBy()
+                                    : article.getRejectedBy())
+                            .build());
+            if (!applied) {
+                throw conflict(id, expectedStatus);
+            }
+        }
+
+        boolean hasContentFields = (article.getTitle() != null && !article.getTitle().trim().isEmpty())
+                || (article.getContent() != null && !article.getContent().trim().isEmpty())
+                || article.getFeaturedImage() != null || article.getIsPublished() != null;
+        boolean hasReviewFields = article.getStatus() == null && (article.getFeedback() != null
+                || article.getApprovedBy() != null || article.getRejectedBy() != null);
+        if (!hasContentFields && !hasReviewFields) {
+            return getArticleById(id);
+        }
+
+        // Loaded under a row lock: a transition by the AI worker waits for this commit instead of being
+        // reverted by the stale status a detached copy would carry
+        Article existingArticle = articleRepository.findForUpdate(id)
+                .orElseThrow(() -> new IllegalArgumentException("Article not found with ID: " + id));
+        if (article.getStatus() == null && expectedStatus != null && existingArticle.getStatus() != expectedStatus) {
+            throw conflict(id, expectedStatus);
+        }
+        boolean textChanged = false;
 
         // Update fields if they are provided
         if (article.getTitle() != null && !article.getTitle().trim().isEmpty()) {
+            textChanged |= !article.getTitle().equals(existingArticle.getTitle());
             existingArticle.setTitle(article.getTitle());
         }
 
         if (article.getContent() != null && !article.getContent().trim().isEmpty()) {
+            textChanged |= !article.getContent().equals(existingArticle.getContent());
             existingArticle.setContent(article.getContent());
+            existingArticle.setContentHash(ContentHashing.fingerprint(article.getContent()));
+            if (existingArticle.getSignals() == null) {
+                existingArticle.setSignals(new ContentSignals());
+            }
+            existingArticle.getSignals().setWordCount(ContentScanner.countWords(article.getContent()));
         }
 
         if (article.getFeaturedImage() != null) {
             existingArticle.setFeaturedImage(article.getFeaturedImage());
         }
 
-        if (article.getStatus() != null) {
-            existingArticle.setStatus(article.getStatus());
-        }
-
         if (article.getIsPublished() != null) {
             existingArticle.setIsPublished(article.getIsPublished());
 
@@ -91,21 +185,34 @@ public class ArticleServiceImpl implements ArticleService {
             }
         }
 
-        if (article.getFeedback() != null) {
-            existingArticle.setFeedback(article.getFeedback());
-        }
+        if (hasReviewFields) {
+            if (article.getFeedback() != null) {
+                existingArticle.setFeedback(article.getFeedback());
+            }
 
-        if (article.getApprovedBy() != null) {
-            existingArticle.setApprovedBy(article.getApprovedBy());
-            existingArticle.setApprovedAt(LocalDateTime.now());
-        }
+            if (article.getApprovedBy() != null) {
+                existingArticle.setApprovedBy(article.getApprovedBy());
+                existingArticle.setApprovedAt(LocalDateTime.now());
+            }
 
-        if (article.getRejectedBy() != null) {
-            existingArticle.setRejectedBy(article.getRejectedBy());
-            existingArticle.setRejectedAt(LocalDateTime.now());
+            if (article.getRejectedBy() != null) {
+                existingArticle.setRejectedBy(article.getRejectedBy());
+                existingArticle.setRejectedAt(LocalDateTime.now());
+            }
         }
 
+        // Article uses dynamic updates, so only the columns changed above are written
         Article updatedArticle = articleRepository.save(existingArticle);
+        eventPublisher.publishEvent(new ArticleUpdatedEvent(id));
+        if (textChanged) {
+            AfterCommit.run(() -> originalityService.index(updatedArticle.getId(), updatedArticle.getCreatedAt(),
+                    updatedArticle.getContent()));
+        }
+
+        // Long articles are re-analysed section by section, so only edited sections cost tokens
+        if (textChanged && analysisChunkConfig.isReanalyseOnUpdate()) {
+            analysisJobService.submit(updatedArticle.getId(), AnalysisPriority.NORMAL);
+        }
         return updatedArticle;
     }
 
@@ -115,16 +222,90 @@ public class ArticleServiceImpl implements ArticleService {
             throw new IllegalArgumentException("Article ID cannot be null");
         }
 
-        Article existingArticle = getArticleById(id);
+        Article existingArticle = findArticle(id);
 
         articleRepository.delete(existingArticle);
+        originalityService.remove(id);
+        eventPublisher.publishEvent(new ArticleStatusChangedEvent(id, existingArticle.getStatus(), null));
     }
 
     @Override
-    public Page<Article> getAllArticles(Pageable pageable) {
+    public Page<ArticleSummary> getAllArticles(Pageable pageable) {
 
-        Page<Article> articles = articleRepository.findAll(pageable);
+        Page<ArticleSummary> articles = articleRepository.findAllSummaries(pageable);
         return articles;
     }
 
+    @Override
+    public CursorPage<ArticleSummary> getArticlesByCursor(String cursor, int size, ArticleListOrder order,
+            TotalCountMode total) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        ArticleCursor after = cursor == null || cursor.isBlank() ? null : ArticleCursor.decode(cursor);
+        ArticleListOrder listOrder = after != null ? after.order() : order;
+
+        // One extra row tells us whether another page exists without counting
+        List<UUID> ids = switch (listOrder) {
+            case CREATED -> after == null
+                    ? articleRepository.findFirstIdsByCreatedAt(pageSize + 1)
+                    : articleRepository.findIdsAfterCreatedAt(after.timestamp(), after.id(), pageSize + 1);
+            case PUBLISHED -> after == null
+                    ? articleRepository.findFirstPublishedIds(pageSize + 1)
+                    : articleRepository.findPublishedIdsAfter(after.timestamp(), after.id(), pageSize + 1);
+        };
+
+        boolean hasNext = ids.size() > pageSize;
+        List<UUID> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+        List<ArticleSummary> content = inOrder(pageIds, articleRepository.findSummariesByIdIn(pageIds));
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleSummary last = content.get(content.size() - 1);
+            LocalDateTime timestamp = listOrder == ArticleListOrder.PUBLISHED ? last.getPublishedAt()
+                    : last.getCreatedAt();
+            nextCursor = new ArticleCursor(listOrder, timestamp, last.getId()).encode();
+        }
+
+        return CursorPage.<ArticleSummary>builder()
+                .content(content)
+                .size(pageSize)
+                .numberOfElements(content.size())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(countArticles(listOrder, total))
+                .totalExact(total == TotalCountMode.EXACT)
+                .build();
+    }
+
+    private static ArticleConflictException conflict(UUID id, ArticleStatus expectedStatus) {
+        return new ArticleConflictException("Article " + id + " is no longer " + expectedStatus
+                + ", reload and retry");
+    }
+
+    // Restores the keyset order, which the IN query does not preserve
+    private static List<ArticleSummary> inOrder(List<UUID> ids, List<ArticleSummary> summaries) {
+        Map<UUID, ArticleSummary> byId = new HashMap<>();
+        summaries.forEach(summary -> byId.put(summary.getId(), summary));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private Long countArticles(ArticleListOrder order, TotalCountMode total) {
+        if (total == TotalCountMode.NONE) {
+            return null;
+        }
+        // Table statistics only cover the whole table, so the published listing is always counted
+        if (total == TotalCountMode.ESTIMATE && order == ArticleListOrder.CREATED && estimateSupported) {
+            try {
+                long estimate = articleRepository.estimateCount();
+                if (estimate >= 0) {
+                    return estimate;
+                }
+            } catch (DataAccessException e) {
+                // The estimate reads PostgreSQL's catalog; other databases (H2 in the load test) count exactly
+                estimateSupported = false;
+                log.warn("Row count estimate unavailable, falling back to exact counts: {}", e.getMessage());
+            }
+        }
+        return order == ArticleListOrder.PUBLISHED ? articleRepository.countByIsPublishedTrue()
+                : articleRepository.count();
+    }
 }
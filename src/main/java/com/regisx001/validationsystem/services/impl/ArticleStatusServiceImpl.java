@@ -0,0 +1,94 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.domain.dtos.ReviewClaim;
+import com.regisx001.validationsystem.domain.dtos.StatusTransition;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.domain.events.ArticleStatusChangedEvent;
+import com.regisx001.validationsystem.domain.events.ArticleUpdatedEvent;
+import com.regisx001.validationsystem.repositories.ArticleRepository;
+import com.regisx001.validationsystem.services.ArticleStatusService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ArticleStatusServiceImpl implements ArticleStatusService {
+
+    private static final Set<ArticleStatus> APPROVALS = EnumSet.of(ArticleStatus.APPROVED, ArticleStatus.AI_APPROVED);
+    private static final Set<ArticleStatus> REJECTIONS = EnumSet.of(ArticleStatus.REJECTED, ArticleStatus.AI_REJECTED);
+
+    private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public boolean transition(StatusTransition transition) {
+        if (transition.getArticleId() == null || transition.getExpectedStatus() == null
+                || transition.getTargetStatus() == null) {
+            throw new IllegalStateException("A status transition needs an article, an expected and a target status");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean approval = APPROVALS.contains(transition.getTargetStatus());
+        boolean rejection = REJECTIONS.contains(transition.getTargetStatus());
+
+        boolean applied = articleRepository.transitionStatus(transition.getArticleId(),
+                transition.getExpectedStatus(), transition.getTargetStatus(), transition.getFeedback(),
+                approval ? now : null, approval ? transition.getActor() : null,
+                rejection ? now : null, rejection ? transition.getActor() : null, now) == 1;
+
+        if (applied && transition.getExpectedStatus() != transition.getTargetStatus()) {
+            eventPublisher.publishEvent(new ArticleStatusChangedEvent(transition.getArticleId(),
+                    transition.getExpectedStatus(), transition.getTargetStatus()));
+        } else if (applied) {
+            eventPublisher.publishEvent(new ArticleUpdatedEvent(transition.getArticleId()));
+        }
+        return applied;
+    }
+
+    @Override
+    public Optional<ReviewClaim> claimReview(UUID articleId, ArticleStatus expected, LocalDateTime staleBefore) {
+        // Truncated to the column precision, so the stored value still identifies the claim
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (articleRepository.claimReview(articleId, expected, claimedAt, staleBefore) == 0) {
+            return Optional.empty();
+        }
+
+        ArticleStatus previousStatus = articleRepository.findReviewFromStatusById(articleId).orElse(expected);
+        if (expected != ArticleStatus.UNDER_AI_REVIEW) {
+            eventPublisher.publishEvent(new ArticleStatusChangedEvent(articleId, expected,
+                    ArticleStatus.UNDER_AI_REVIEW));
+        }
+        return Optional.of(ReviewClaim.builder().previousStatus(previousStatus).claimedAt(claimedAt).build());
+    }
+
+    @Override
+    public boolean releaseReview(UUID articleId, ReviewClaim claim) {
+        return release(articleId, claim.getClaimedAt(), claim.getClaimedAt());
+    }
+
+    @Override
+    public boolean releaseStaleReview(UUID articleId, LocalDateTime claimedBefore) {
+        return release(articleId, LocalDateTime.of(1970, 1, 1, 0, 0), claimedBefore);
+    }
+
+    private boolean release(UUID articleId, LocalDateTime claimedFrom, LocalDateTime claimedTo) {
+        ArticleStatus previousStatus = articleRepository.findReviewFromStatusById(articleId).orElse(null);
+        if (previousStatus == null
+                || articleRepository.releaseReview(articleId, claimedFrom, claimedTo, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(new ArticleStatusChangedEvent(articleId, ArticleStatus.UNDER_AI_REVIEW,
+                previousStatus));
+        return true;
+    }
+}
@@ -0,0 +1,285 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.config.AIPromptTemplates;
+import com.regisx001.validationsystem.config.AnalysisChunkConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ChunkAnalysis;
+import com.regisx001.validationsystem.repositories.ChunkAnalysisRepository;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.AnalysisResponseService;
+import com.regisx001.validationsystem.services.ChunkedAnalysisService;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+import com.regisx001.validationsystem.utils.ContentChunker;
+import com.regisx001.validationsystem.utils.ContentChunker.Chunk;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChunkedAnalysisServiceImpl implements ChunkedAnalysisService {
+
+    private static final int MAX_FEEDBACK_SECTIONS = 3;
+    private static final int MAX_RECOMMENDATIONS = 10;
+    private static final String REJECTED = "REJECTED";
+
+    private final AnalysisChunkConfig config;
+    private final ContentChunker contentChunker;
+    private final ChunkAnalysisRepository chunkAnalysisRepository;
+    private final AIChatService aiChatService;
+    private final ArticleUtils utils;
+    private final AnalysisResponseService analysisResponseService;
+
+    private final ExecutorService chunkCallers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public boolean accepts(Article article) {
+        return config.isEnabled() && utils.estimateTokens(article.getContent()) >= config.getMinArticleTokens();
+    }
+
+    @Override
+    public AIAnalysisResponse analyse(Article article) {
+        List<Chunk> chunks = contentChunker.split(article.getTitle(), article.getContent());
+        String model = utils.getUsedLLM();
+
+        Set<String> hashes = chunks.stream().map(Chunk::hash).collect(Collectors.toSet());
+        Map<String, ChunkAnalysis> known = new HashMap<>();
+        chunkAnalysisRepository.findByChunkHashInAndAiModelAndPromptVersion(hashes, model,
+                AIPromptTemplates.CHUNK_ANALYSIS_PROMPT_VERSION)
+                .forEach(analysis -> known.put(analysis.getChunkHash(), analysis));
+
+        // Map: every section not analysed before goes to the model concurrently, so latency
+        // follows the slowest section rather than the article length
+        Map<String, Chunk> missing = new LinkedHashMap<>();
+        chunks.stream().filter(chunk -> !known.containsKey(chunk.hash()))
+                .forEach(chunk -> missing.putIfAbsent(chunk.hash(), chunk));
+        Map<String, SectionResult> sections = analyseAll(article.getTitle(), missing.values(), model);
+
+        List<ChunkAnalysis> analyses = new ArrayList<>(chunks.size());
+        boolean degraded = false;
+        for (Chunk chunk : chunks) {
+            ChunkAnalysis analysis = known.get(chunk.hash());
+            if (analysis == null) {
+                SectionResult section = sections.get(chunk.hash());
+                if (section.stored() == null) {
+                    // Counted at a neutral score and never stored, so the next run retries this section
+                    degraded = true;
+                    analysis = toChunkAnalysis(chunk, section.response(), model);
+                    analysis.setOverallScore(0.5);
+                    analysis.setFeedback(null);
+                } else {
+                    analysis = section.stored();
+                    known.put(chunk.hash(), analysis);
+                }
+            }
+            analyses.add(analysis);
+        }
+
+        log.debug("Article {} analysed in {} sections, {} reused from earlier analyses", article.getId(),
+                chunks.size(), chunks.size() - missing.size());
+        // Reduce; only the sections sent to the model cost tokens
+        AIAnalysisResponse merged = merge(analyses, degraded);
+        merged.setUsage(sections.values().stream().map(section -> section.response().getUsage())
+                .reduce(TokenUsage.none(), TokenUsage::plus));
+        return merged;
+    }
+
+    private Map<String, SectionResult> analyseAll(String title, Collection<Chunk> chunks, String model) {
+        Semaphore slots = new Semaphore(Math.max(1, config.getParallelism()));
+        Map<String, Future<SectionResult>> calls = new LinkedHashMap<>();
+        try {
+            for (Chunk chunk : chunks) {
+                calls.put(chunk.hash(), chunkCallers.submit(() -> analyseChunk(title, chunk, model, slots)));
+            }
+            Map<String, SectionResult> sections = new HashMap<>();
+            for (Map.Entry<String, Future<SectionResult>> call : calls.entrySet()) {
+                sections.put(call.getKey(), call.getValue().get());
+            }
+            return sections;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while analysing article sections", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // One failed section fails the article; stop spending calls on the rest
+            calls.values().forEach(call -> call.cancel(true));
+        }
+    }
+
+    private SectionResult analyseChunk(String title, Chunk chunk, String model, Semaphore slots)
+            throws InterruptedException {
+        AIAnalysisResponse response;
+        slots.acquire();
+        try {
+            ChatReply reply = aiChatService.exchange(utils.buildChunkAnalysisPrompt(title, chunk.text()), model);
+            response = analysisResponseService.read(reply, model);
+        } finally {
+            slots.release();
+        }
+
+        // Stored as soon as it lands, so a section that fails later does not throw away the ones already paid for
+        if (utils.isFallbackResponse(response) || response.getOverallScore() == null) {
+            return new SectionResult(response, null);
+        }
+        return new SectionResult(response, store(toChunkAnalysis(chunk, response, model)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        chunkCallers.shutdownNow();
+    }
+
+    // stored is null when the reply was not usable
+    private record SectionResult(AIAnalysisResponse response, ChunkAnalysis stored) {
+    }
+
+    private ChunkAnalysis store(ChunkAnalysis analysis) {
+        try {
+            return chunkAnalysisRepository.save(analysis);
+        } catch (DataIntegrityViolationException e) {
+            // Another worker stored the same section concurrently; our copy is equivalent
+            return analysis;
+        }
+    }
+
+    private ChunkAnalysis toChunkAnalysis(Chunk chunk, AIAnalysisResponse response, String model) {
+        return ChunkAnalysis.builder()
+                .chunkHash(chunk.hash())
+                .aiModel(model)
+                .promptVersion(AIPromptTemplates.CHUNK_ANALYSIS_PROMPT_VERSION)
+                .tokenCount(Math.max(chunk.tokens(), 1))
+                .overallScore(response.getOverallScore())
+                .recommendation(response.getRecommendation())
+                .contentQualityScore(response.getContentQuality() != null ? response.getContentQuality().getScore()
+                        : null)
+                .grammarScore(response.getGrammar() != null ? response.getGrammar().getScore() : null)
+                .appropriatenessScore(response.getAppropriateness() != null
+                        ? response.getAppropriateness().getScore()
+                        : null)
+                .seoScore(response.getSeo() != null ? response.getSeo().getScore() : null)
+                .feedback(response.getFeedback())
+                .recommendations(response.getRecommendations() != null
+                        ? String.join("; ", response.getRecommendations())
+                        : null)
+                .build();
+    }
+
+    // Quality scores are averaged weighted by section size. Moderation is not: appropriateness and the
+    // overall score that decides are the weakest section's, so one bad section in a long clean article is
+    // not diluted into an approval, and a section the model rejected outright rejects the article.
+    // Feedback comes from the weakest sections.
+    private AIAnalysisResponse merge(List<ChunkAnalysis> analyses, boolean degraded) {
+        AIAnalysisResponse.ContentQuality contentQuality = new AIAnalysisResponse.ContentQuality();
+        contentQuality.setScore(weighted(analyses, ChunkAnalysis::getContentQualityScore));
+
+        AIAnalysisResponse.Grammar grammar = new AIAnalysisResponse.Grammar();
+        grammar.setScore(weighted(analyses, ChunkAnalysis::getGrammarScore));
+
+        AIAnalysisResponse.Appropriateness appropriateness = new AIAnalysisResponse.Appropriateness();
+        appropriateness.setScore(weakest(analyses, ChunkAnalysis::getAppropriatenessScore));
+
+        AIAnalysisResponse.SEO seo = new AIAnalysisResponse.SEO();
+        seo.setScore(weighted(analyses, ChunkAnalysis::getSeoScore));
+
+        List<Integer> weakest = new ArrayList<>();
+        for (int i = 0; i < analyses.size(); i++) {
+            weakest.add(i);
+        }
+        weakest.sort(Comparator.comparing(i -> analyses.get(i).getOverallScore()));
+
+        StringBuilder feedback = new StringBuilder();
+        int feedbackSections = 0;
+        for (int i : weakest) {
+            String sectionFeedback = analyses.get(i).getFeedback();
+            if (sectionFeedback == null || sectionFeedback.isBlank()) {
+                continue;
+            }
+            if (feedback.length() > 0) {
+                feedback.append(' ');
+            }
+            feedback.append("Section ").append(i + 1).append(": ").append(sectionFeedback.strip());
+            if (++feedbackSections >= MAX_FEEDBACK_SECTIONS) {
+                break;
+            }
+        }
+
+        Set<String> recommendations = new LinkedHashSet<>();
+        for (ChunkAnalysis analysis : analyses) {
+            if (analysis.getRecommendations() == null || analysis.getRecommendations().isBlank()) {
+                continue;
+            }
+            Arrays.stream(analysis.getRecommendations().split(";\\s*"))
+                    .filter(recommendation -> !recommendation.isBlank())
+                    .forEach(recommendations::add);
+        }
+
+        double overallScore = weakest(analyses, ChunkAnalysis::getOverallScore);
+        double rejectionThreshold = utils.getAutoRejectionThreshold();
+        boolean sectionRejected = analyses.stream()
+                .anyMatch(analysis -> REJECTED.equalsIgnoreCase(analysis.getRecommendation()))
+                || (appropriateness.getScore() != null && appropriateness.getScore() <= rejectionThreshold);
+        if (sectionRejected) {
+            overallScore = Math.min(overallScore, rejectionThreshold);
+        }
+
+        return AIAnalysisResponse.builder()
+                .overallScore(overallScore)
+                .recommendation(degraded ? ArticleUtils.FALLBACK_RECOMMENDATION
+                        : analyses.get(weakest.get(0)).getRecommendation())
+                .feedback(feedback.toString())
+                .recommendations(recommendations.stream().limit(MAX_RECOMMENDATIONS).toList())
+                .contentQuality(contentQuality)
+                .grammar(grammar)
+                .appropriateness(appropriateness)
+                .seo(seo)
+                .build();
+    }
+
+    private static Double weakest(List<ChunkAnalysis> analyses, Function<ChunkAnalysis, Double> score) {
+        return analyses.stream().map(score).filter(Objects::nonNull).min(Double::compare).orElse(null);
+    }
+
+    private static Double weighted(List<ChunkAnalysis> analyses, Function<ChunkAnalysis, Double> score) {
+        double sum = 0;
+        double weight = 0;
+        for (ChunkAnalysis analysis : analyses) {
+            Double value = score.apply(analysis);
+            if (value != null) {
+                sum += value * analysis.getTokenCount();
+                weight += analysis.getTokenCount();
+            }
+        }
+        return weight > 0 ? sum / weight : null;
+    }
+}
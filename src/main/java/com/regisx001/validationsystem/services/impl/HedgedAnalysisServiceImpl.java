@@ -0,0 +1,224 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.config.AnalysisHedgeConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+import com.regisx001.validationsystem.domain.dtos.ModelAnalysisResponse;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.AnalysisResponseService;
+import com.regisx001.validationsystem.services.HedgedAnalysisService;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+import com.regisx001.validationsystem.utils.LatencyWindow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class HedgedAnalysisServiceImpl implements HedgedAnalysisService {
+
+    // Upper bound on banked hedges, so a long quiet period cannot fund a burst of them
+    private static final double MAX_HEDGE_CREDIT = 10;
+
+    private final AnalysisHedgeConfig config;
+    private final AIChatService aiChatService;
+    private final ArticleUtils utils;
+    private final AnalysisResponseService analysisResponseService;
+    private final MeterRegistry meterRegistry;
+
+    private final LatencyWindow latencies;
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter primaryCalls;
+    private final Counter hedgeCalls;
+    private final Counter hedgesSkipped;
+
+    private double hedgeCredit;
+
+    public HedgedAnalysisServiceImpl(AnalysisHedgeConfig config, AIChatService aiChatService, ArticleUtils utils,
+            AnalysisResponseService analysisResponseService, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.aiChatService = aiChatService;
+        this.utils = utils;
+        this.analysisResponseService = analysisResponseService;
+        this.meterRegistry = meterRegistry;
+        this.latencies = new LatencyWindow(config.getWindowSize());
+
+        // analysis.hedge.calls{role=hedge} / {role=primary} is the extra request rate hedging costs
+        this.primaryCalls = Counter.builder("analysis.hedge.calls").tag("role", "primary").register(meterRegistry);
+        this.hedgeCalls = Counter.builder("analysis.hedge.calls").tag("role", "hedge").register(meterRegistry);
+        this.hedgesSkipped = Counter.builder("analysis.hedge.skipped").register(meterRegistry);
+        Gauge.builder("analysis.hedge.delay", this, s -> s.hedgeDelay().toMillis()).baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ModelAnalysisResponse analyse(ChatPrompt prompt) {
+        String primaryModel = utils.getUsedLLM();
+        primaryCalls.increment();
+        earnHedgeCredit();
+        if (!config.isEnabled()) {
+            return attempt(prompt, primaryModel, false, new Call());
+        }
+
+        ExecutorCompletionService<ModelAnalysisResponse> completion = new ExecutorCompletionService<>(callers);
+        List<Call> calls = new ArrayList<>(2);
+        calls.add(submit(completion, prompt, primaryModel, false));
+        try {
+            // The hedge delay runs from when the primary reached the provider. While it is still queued
+            // locally for the rate limiter or a permit, a hedge would only queue behind it.
+            Call primary = calls.get(0);
+            if (!primary.sent.get()) {
+                return won(primary.future.get());
+            }
+            long wait = primary.sentAt + hedgeDelay().toNanos() - System.nanoTime();
+            Future<ModelAnalysisResponse> first = completion.poll(Math.max(wait, 0), TimeUnit.NANOSECONDS);
+            if (first != null) {
+                return won(first.get());
+            }
+
+            if (!spendHedgeCredit() || !aiChatService.isAvailable()) {
+                hedgesSkipped.increment();
+                return won(calls.get(0).future.get());
+            }
+            hedgeCalls.increment();
+            String hedgeModel = config.getFallbackModel().isBlank() ? primaryModel : config.getFallbackModel();
+            calls.add(submit(completion, prompt, hedgeModel, true));
+
+            return race(completion);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the AI analysis", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            // Interrupts whichever call lost; its provider permit is released as it unwinds. A primary cut
+            // short at the provider took at least this long, and leaving it out would pull the hedge delay
+            // down to the calls that were fast enough to finish.
+            Call primary = calls.get(0);
+            if (primary.future.cancel(true) && primary.sent.getNow(false)) {
+                latencies.record(System.nanoTime() - primary.sentAt);
+            }
+            calls.forEach(call -> call.future.cancel(true));
+        }
+    }
+
+    private Call submit(ExecutorCompletionService<ModelAnalysisResponse> completion, ChatPrompt prompt,
+            String model, boolean hedged) {
+        Call call = new Call();
+        call.future = completion.submit(() -> attempt(prompt, model, hedged, call));
+        return call;
+    }
+
+    // Both calls are in flight: the first valid answer wins, otherwise the last one to finish
+    // is reported (a fallback response, or its failure)
+    private ModelAnalysisResponse race(ExecutorCompletionService<ModelAnalysisResponse> completion)
+            throws InterruptedException, ExecutionException {
+        ExecutionException failure = null;
+        ModelAnalysisResponse invalid = null;
+        for (int i = 0; i < 2; i++) {
+            try {
+                ModelAnalysisResponse candidate = completion.take().get();
+                if (!utils.isFallbackResponse(candidate.getResponse())) {
+                    return won(candidate);
+                }
+                invalid = candidate;
+            } catch (ExecutionException e) {
+                failure = e;
+            }
+        }
+        if (invalid != null) {
+            return won(invalid);
+        }
+        throw failure;
+    }
+
+    private ModelAnalysisResponse attempt(ChatPrompt prompt, String model, boolean hedged, Call call) {
+        ChatReply reply;
+        try {
+            reply = aiChatService.exchange(prompt, model, call::abandoned, call::sent);
+        } finally {
+            call.sent.complete(false);
+        }
+        // Only the provider round trip counts; a cancelled primary was already recorded when it was cut short
+        if (!call.abandoned() && reply.getProviderNanos() != null) {
+            latencies.record(reply.getProviderNanos());
+        }
+        AIAnalysisResponse response = analysisResponseService.read(reply, model);
+        return ModelAnalysisResponse.builder().response(response).aiModel(model).hedged(hedged).build();
+    }
+
+    private ModelAnalysisResponse won(ModelAnalysisResponse result) {
+        meterRegistry.counter("analysis.hedge.wins", "role", result.isHedged() ? "hedge" : "primary",
+                "model", result.getAiModel()).increment();
+        return result;
+    }
+
+    private Duration hedgeDelay() {
+        if (latencies.size() < config.getMinSamples()) {
+            return config.getInitialDelay();
+        }
+        Duration observed = Duration.ofNanos(latencies.percentile(config.getPercentile()));
+        return observed.compareTo(config.getMinDelay()) < 0 ? config.getMinDelay() : observed;
+    }
+
+    // Every primary request earns maxHedgeRatio of a hedge; each hedge spends one
+    private synchronized void earnHedgeCredit() {
+        hedgeCredit = Math.min(MAX_HEDGE_CREDIT, hedgeCredit + config.getMaxHedgeRatio());
+    }
+
+    private synchronized boolean spendHedgeCredit() {
+        if (hedgeCredit < 1) {
+            return false;
+        }
+        hedgeCredit -= 1;
+        return true;
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callers.shutdownNow();
+    }
+
+    // One provider call. The future is assigned as soon as the call is submitted, before anything can
+    // cancel it, so a call whose future is unset has not been given up on. sent completes with true once
+    // the request went out at sentAt, or with false if the call ended without being sent.
+    private static final class Call {
+        private final CompletableFuture<Boolean> sent = new CompletableFuture<>();
+        private volatile long sentAt;
+        private volatile Future<ModelAnalysisResponse> future;
+
+        void sent(long at) {
+            sentAt = at;
+            sent.complete(true);
+        }
+
+        boolean abandoned() {
+            Future<ModelAnalysisResponse> current = future;
+            return current != null && current.isCancelled();
+        }
+    }
+}
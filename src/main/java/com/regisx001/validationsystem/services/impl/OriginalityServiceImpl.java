@@ -0,0 +1,114 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.domain.dtos.ArticleContentView;
+import com.regisx001.validationsystem.domain.dtos.OriginalityCheck;
+import com.regisx001.validationsystem.repositories.ArticleRepository;
+import com.regisx001.validationsystem.services.OriginalityService;
+import com.regisx001.validationsystem.utils.MinHashLshIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OriginalityServiceImpl implements OriginalityService {
+
+    // 5-word shingles, 32 bands of 4 rows: pairs above roughly 0.45 Jaccard become candidates
+    private static final int SHINGLE_SIZE = 5;
+    private static final int BANDS = 32;
+    private static final int ROWS = 4;
+    private static final int WARMUP_PAGE_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+
+    private final MinHashLshIndex<UUID> index = new MinHashLshIndex<>(SHINGLE_SIZE, BANDS, ROWS);
+
+    // Ids indexed or removed while the warmup runs; the warmup's older page reads must not overwrite
+    // them, or a deleted article would be resurrected. Null once the warmup has finished.
+    private final Object warmupLock = new Object();
+    private Set<UUID> changedDuringWarmup = new HashSet<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        Thread.ofVirtual().name("OriginalityIndexWarmup").start(() -> {
+            long start = System.currentTimeMillis();
+            Pageable page = PageRequest.of(0, WARMUP_PAGE_SIZE, Sort.by("id"));
+            Slice<ArticleContentView> slice;
+            try {
+                do {
+                    slice = articleRepository.findAllContent(page);
+                    for (ArticleContentView article : slice) {
+                        synchronized (warmupLock) {
+                            if (!changedDuringWarmup.contains(article.getId())) {
+                                index.put(article.getId(), rank(article.getCreatedAt()), article.getContent());
+                            }
+                        }
+                    }
+                    page = slice.nextPageable();
+                } while (slice.hasNext());
+            } finally {
+                synchronized (warmupLock) {
+                    changedDuringWarmup = null;
+                }
+            }
+            log.info("Indexed {} articles for near-duplicate detection in {} ms", index.size(),
+                    System.currentTimeMillis() - start);
+        });
+    }
+
+    @Override
+    public void index(UUID articleId, LocalDateTime createdAt, String content) {
+        synchronized (warmupLock) {
+            recordChange(articleId);
+            index.put(articleId, rank(createdAt), content);
+        }
+    }
+
+    @Override
+    public void remove(UUID articleId) {
+        synchronized (warmupLock) {
+            recordChange(articleId);
+            index.remove(articleId);
+        }
+    }
+
+    @Override
+    public OriginalityCheck check(UUID articleId, LocalDateTime createdAt, String content) {
+        MinHashLshIndex.Match<UUID> match = index.mostSimilar(content, rank(createdAt), articleId);
+        if (match == null) {
+            return OriginalityCheck.builder().originalityScore(1.0).similarity(0.0).build();
+        }
+        return OriginalityCheck.builder()
+                .originalityScore(1.0 - match.similarity())
+                .mostSimilarArticleId(match.key())
+                .similarity(match.similarity())
+                .build();
+    }
+
+    private void recordChange(UUID articleId) {
+        if (changedDuringWarmup != null) {
+            changedDuringWarmup.add(articleId);
+        }
+    }
+
+    // Creation time in epoch microseconds; an article only matches articles created before it
+    private static long rank(LocalDateTime createdAt) {
+        return createdAt == null ? Long.MAX_VALUE
+                : createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + createdAt.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,97 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.config.PartitionRetentionConfig;
+import com.regisx001.validationsystem.services.PartitionMaintenanceService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Keeps the monthly partitions created by V2__partition_analysis_tables.sql rolling:
+// removing a month is a metadata operation, unlike deleting its rows
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceServiceImpl implements PartitionMaintenanceService {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("analyse_results", "analyse_histories");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile(".+_p(\\d{6})");
+
+    private final PartitionRetentionConfig config;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.analysis.retention.cron:0 30 3 * * *}")
+    @Override
+    public void maintain() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (String table : PARTITIONED_TABLES) {
+            for (int i = 0; i <= config.getPremakeMonths(); i++) {
+                createPartition(table, current.plusMonths(i));
+            }
+            removeExpired(table, current.minusMonths(config.getRetainMonths()));
+        }
+    }
+
+    private void createPartition(String table, YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(table, month) + " PARTITION OF "
+                    + table + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        } catch (DataAccessException e) {
+            // Typically rows for that month already sit in the default partition
+            log.warn("Could not create partition {}: {}", partitionName(table, month), e.getMessage());
+        }
+    }
+
+    private void removeExpired(String table, YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = ?
+                """, String.class, table);
+
+        for (String partition : partitions) {
+            Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+            if (!matcher.matches() || !YearMonth.parse(matcher.group(1), SUFFIX).isBefore(oldestKept)) {
+                continue;
+            }
+
+            if (config.getMode() == PartitionRetentionConfig.Mode.DETACH) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                log.info("Detached partition {} from {} for archiving", partition, table);
+            } else {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped partition {} of {}", partition, table);
+            }
+        }
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,79 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.config.PreScreenConfig;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+import com.regisx001.validationsystem.domain.enums.PreScreenVerdict;
+import com.regisx001.validationsystem.services.PreScreenService;
+import com.regisx001.validationsystem.services.prescreen.PreScreenRule;
+import com.regisx001.validationsystem.utils.AhoCorasick;
+import com.regisx001.validationsystem.utils.ContentScanner;
+
+@Service
+public class PreScreenServiceImpl implements PreScreenService {
+
+    private final PreScreenConfig config;
+    private final List<PreScreenRule> rules;
+    private final AhoCorasick bannedTerms;
+
+    public PreScreenServiceImpl(PreScreenConfig config, List<PreScreenRule> rules) {
+        this.config = config;
+        this.rules = rules;
+        this.bannedTerms = new AhoCorasick(config.getBannedTerms().stream()
+                .map(ContentScanner::bannedTermPattern)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    @Override
+    public ContentSignals screen(Article article) {
+        ContentScanner.Scan scan = ContentScanner.scan(article.getContent(), bannedTerms);
+
+        ContentSignals signals = ContentSignals.builder()
+                .wordCount(scan.wordCount())
+                .sentenceCount(scan.sentenceCount())
+                .readabilityScore(scan.readability())
+                .longestCharRun(scan.longestCharRun())
+                .uppercaseRatio(scan.uppercaseRatio())
+                .linkCount(scan.linkCount())
+                .bannedTermHits(scan.bannedTermHits())
+                .spamScore(spamScore(scan))
+                .prescreenVerdict(PreScreenVerdict.FORWARDED)
+                .screenedAt(LocalDateTime.now())
+                .build();
+
+        if (config.isEnabled()) {
+            for (PreScreenRule rule : rules) {
+                Optional<String> reason = rule.rejectionReason(article, signals);
+                if (reason.isPresent()) {
+                    signals.setPrescreenVerdict(PreScreenVerdict.REJECTED);
+                    signals.setPrescreenReason(reason.get());
+                    break;
+                }
+            }
+        }
+
+        article.setSignals(signals);
+        return signals;
+    }
+
+    // Noisy-OR of the individual heuristics, each scaled to 0..1
+    private static double spamScore(ContentScanner.Scan scan) {
+        double repeated = clamp((scan.longestCharRun() - 8) / 24.0);
+        double capitals = scan.wordCount() >= 20 ? clamp((scan.uppercaseRatio() - 0.3) / 0.5) : 0;
+        double links = scan.wordCount() == 0 ? 0 : clamp(scan.linkCount() * 10.0 / scan.wordCount());
+        double banned = clamp(scan.bannedTermHits() / 3.0);
+        return 1 - (1 - repeated) * (1 - capitals) * (1 - links) * (1 - banned);
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+}
@@ -0,0 +1,310 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.regisx001.validationsystem.config.AIAnalysisConfig;
+import com.regisx001.validationsystem.config.StatsConfig;
+import com.regisx001.validationsystem.domain.dtos.ModerationStats;
+import com.regisx001.validationsystem.domain.entities.AnalysisStatsRollup;
+import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.domain.events.ArticleAnalysedEvent;
+import com.regisx001.validationsystem.domain.events.ArticleStatusChangedEvent;
+import com.regisx001.validationsystem.repositories.AnalyseResultRepository;
+import com.regisx001.validationsystem.repositories.AnalysisStatsRollupRepository;
+import com.regisx001.validationsystem.repositories.ArticleRepository;
+import com.regisx001.validationsystem.services.StatsService;
+import com.regisx001.validationsystem.utils.Histograms;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Running moderation aggregates kept in memory and updated from application events once their
+// transaction commits. Totals come from a handful of GROUP BY queries, rerun every
+// totals-refresh-interval so changes made through other instances are picked up; in between,
+// this instance's own events keep them current. Per-hour figures are accumulated as deltas and
+// periodically added to the shared analysis_stats_hourly, so /api/stats never scans articles or
+// analyse_results.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatsServiceImpl implements StatsService {
+
+    public static final double[] CONFIDENCE_BOUNDS = { 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9 };
+    public static final double[] LATENCY_BOUNDS_MS = { 100, 250, 500, 1000, 2000, 4000, 8000, 16000, 32000, 64000 };
+
+    private final StatsConfig config;
+    private final AIAnalysisConfig aiAnalysisConfig;
+    private final ArticleRepository articleRepository;
+    private final AnalyseResultRepository analyseResultRepository;
+    private final AnalysisStatsRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<ArticleStatus, Long> statusCounts = new EnumMap<>(ArticleStatus.class);
+    private final Map<AnalyseDecision, Long> decisionCounts = new EnumMap<>(AnalyseDecision.class);
+    private final long[] confidenceHistogram = new long[CONFIDENCE_BOUNDS.length + 1];
+    private double confidenceSum;
+    private long lowConfidenceApprovals;
+
+    // Hourly deltas not yet in the rollup table, and those being written right now
+    private final Map<LocalDateTime, HourlyDelta> pending = new HashMap<>();
+    private final Map<LocalDateTime, HourlyDelta> flushing = new HashMap<>();
+
+    // Held for writing while a delta is committed and taken out of flushing, and for reading while
+    // getStats reads the rollup, so a delta is never counted both in its row and in flushing
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    // Queried outside the lock and swapped in whole. An event that commits while the queries run may be
+    // missed until the next refresh, never counted twice.
+    @PostConstruct
+    @Scheduled(initialDelayString = "${app.analysis.stats.totals-refresh-interval:5m}",
+            fixedDelayString = "${app.analysis.stats.totals-refresh-interval:5m}")
+    public void refreshTotals() {
+        Map<ArticleStatus, Long> statuses = new EnumMap<>(ArticleStatus.class);
+        for (Object[] row : articleRepository.countGroupedByStatus()) {
+            statuses.put((ArticleStatus) row[0], ((Number) row[1]).longValue());
+        }
+        Map<AnalyseDecision, Long> decisions = new EnumMap<>(AnalyseDecision.class);
+        double confidence = 0;
+        for (Object[] row : analyseResultRepository.aggregateByDecision()) {
+            decisions.put((AnalyseDecision) row[0], ((Number) row[1]).longValue());
+            confidence += row[2] != null ? ((Number) row[2]).doubleValue() : 0;
+        }
+        long[] histogram = new long[confidenceHistogram.length];
+        for (Object[] row : analyseResultRepository.countByConfidenceDecile()) {
+            if (row[0] != null) {
+                int bucket = Math.max(0, Math.min(((Number) row[0]).intValue(), histogram.length - 1));
+                histogram[bucket] += ((Number) row[1]).longValue();
+            }
+        }
+        long lowConfidence = analyseResultRepository
+                .countLowConfidenceApprovals(aiAnalysisConfig.getConfidenceThreshold());
+
+        synchronized (this) {
+            statusCounts.clear();
+            statusCounts.putAll(statuses);
+            decisionCounts.clear();
+            decisionCounts.putAll(decisions);
+            System.arraycopy(histogram, 0, confidenceHistogram, 0, histogram.length);
+            confidenceSum = confidence;
+            lowConfidenceApprovals = lowConfidence;
+        }
+    }
+
+    // Events published outside a transaction are applied straight away
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStatusChanged(ArticleStatusChangedEvent event) {
+        if (event.fromStatus() == event.toStatus()) {
+            return;
+        }
+        if (event.fromStatus() != null) {
+            statusCounts.merge(event.fromStatus(), -1L, Long::sum);
+        }
+        if (event.toStatus() != null) {
+            statusCounts.merge(event.toStatus(), 1L, Long::sum);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onAnalysed(ArticleAnalysedEvent event) {
+        decisionCounts.merge(event.decision(), 1L, Long::sum);
+        confidenceHistogram[Histograms.bucketOf(CONFIDENCE_BOUNDS, event.confidenceScore())]++;
+        confidenceSum += event.confidenceScore();
+        if (event.decision() == AnalyseDecision.APPROVED
+                && event.confidenceScore() < aiAnalysisConfig.getConfidenceThreshold()) {
+            lowConfidenceApprovals++;
+        }
+
+        LocalDateTime bucket = event.analyzedAt().truncatedTo(ChronoUnit.HOURS);
+        pending.computeIfAbsent(bucket, b -> new HourlyDelta()).record(event);
+    }
+
+    @Override
+    public ModerationStats getStats() {
+        LocalDateTime since = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS)
+                .minusHours(config.getWindowHours() - 1L);
+
+        flushLock.readLock().lock();
+        try {
+            // At most windowHours rows by primary key, read before taking the monitor
+            List<AnalysisStatsRollup> rows = rollupRepository
+                    .findByBucketStartGreaterThanEqualOrderByBucketStartAsc(since);
+            Map<LocalDateTime, HourlyDelta> hours = new TreeMap<>();
+            for (AnalysisStatsRollup row : rows) {
+                hours.computeIfAbsent(row.getBucketStart(), b -> new HourlyDelta()).add(row);
+            }
+
+            synchronized (this) {
+                // Plus whatever this instance has not committed yet
+                for (Map<LocalDateTime, HourlyDelta> local : List.of(flushing, pending)) {
+                    local.forEach((bucket, delta) -> {
+                        if (!bucket.isBefore(since)) {
+                            hours.computeIfAbsent(bucket, b -> new HourlyDelta()).add(delta);
+                        }
+                    });
+                }
+                return buildStats(hours);
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    private ModerationStats buildStats(Map<LocalDateTime, HourlyDelta> hours) {
+        List<ModerationStats.HourlyStats> hourly = new ArrayList<>(hours.size());
+        hours.forEach((bucket, delta) -> hourly.add(delta.toStats(bucket)));
+
+        long totalAnalyses = decisionCounts.values().stream().mapToLong(Long::longValue).sum();
+        return ModerationStats.builder()
+                .articlesByStatus(new EnumMap<>(statusCounts))
+                .decisions(new EnumMap<>(decisionCounts))
+                .totalAnalyses(totalAnalyses)
+                .averageConfidence(totalAnalyses > 0 ? confidenceSum / totalAnalyses : null)
+                .confidenceHistogram(Arrays.stream(confidenceHistogram).boxed().toList())
+                .lowConfidenceApprovals(lowConfidenceApprovals)
+                .hourly(hourly)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.analysis.stats.flush-interval:60s}")
+    public void flush() {
+        List<Map.Entry<LocalDateTime, HourlyDelta>> batch;
+        synchronized (this) {
+            flushing.putAll(pending);
+            pending.clear();
+            batch = List.copyOf(flushing.entrySet());
+        }
+
+        for (Map.Entry<LocalDateTime, HourlyDelta> entry : batch) {
+            flushLock.writeLock().lock();
+            try {
+                merge(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.warn("Could not flush statistics for {}: {}", entry.getKey(), e.getMessage());
+                synchronized (this) {
+                    pending.computeIfAbsent(entry.getKey(), b -> new HourlyDelta()).add(entry.getValue());
+                }
+            } finally {
+                synchronized (this) {
+                    flushing.remove(entry.getKey());
+                }
+                flushLock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void merge(LocalDateTime bucket, HourlyDelta delta) {
+        try {
+            mergeOnce(bucket, delta);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the same hour concurrently; its row exists now
+            mergeOnce(bucket, delta);
+        }
+    }
+
+    private void mergeOnce(LocalDateTime bucket, HourlyDelta delta) {
+        transactionTemplate.executeWithoutResult(status -> {
+            AnalysisStatsRollup row = rollupRepository.findForUpdate(bucket)
+                    .orElseGet(() -> AnalysisStatsRollup.builder()
+                            .bucketStart(bucket)
+                            .latencyHistogram(new long[LATENCY_BOUNDS_MS.length + 1])
+                            .build());
+            delta.addInto(row);
+            rollupRepository.saveAndFlush(row);
+        });
+    }
+
+    private static final class HourlyDelta {
+        private long analyses;
+        private long approved;
+        private long rejected;
+        private long manualReview;
+        private long needsRevision;
+        private double confidenceSum;
+        private long latencySumMs;
+        private final long[] latencyHistogram = new long[LATENCY_BOUNDS_MS.length + 1];
+
+        private void record(ArticleAnalysedEvent event) {
+            analyses++;
+            switch (event.decision()) {
+                case APPROVED -> approved++;
+                case REJECTED -> rejected++;
+                case REQUIRES_MANUAL_REVIEW -> manualReview++;
+                case NEEDS_REVISION -> needsRevision++;
+            }
+            confidenceSum += event.confidenceScore();
+            latencySumMs += event.processingTimeMs();
+            latencyHistogram[Histograms.bucketOf(LATENCY_BOUNDS_MS, event.processingTimeMs())]++;
+        }
+
+        private void add(HourlyDelta other) {
+            analyses += other.analyses;
+            approved += other.approved;
+            rejected += other.rejected;
+            manualReview += other.manualReview;
+            needsRevision += other.needsRevision;
+            confidenceSum += other.confidenceSum;
+            latencySumMs += other.latencySumMs;
+            Histograms.addInto(latencyHistogram, other.latencyHistogram);
+        }
+
+        private void add(AnalysisStatsRollup row) {
+            analyses += row.getAnalyses();
+            approved += row.getApproved();
+            rejected += row.getRejected();
+            manualReview += row.getManualReview();
+            needsRevision += row.getNeedsRevision();
+            confidenceSum += row.getConfidenceSum();
+            latencySumMs += row.getLatencySumMs();
+            Histograms.addInto(latencyHistogram, row.getLatencyHistogram());
+        }
+
+        private void addInto(AnalysisStatsRollup row) {
+            row.setAnalyses(row.getAnalyses() + analyses);
+            row.setApproved(row.getApproved() + approved);
+            row.setRejected(row.getRejected() + rejected);
+            row.setManualReview(row.getManualReview() + manualReview);
+            row.setNeedsRevision(row.getNeedsRevision() + needsRevision);
+            row.setConfidenceSum(row.getConfidenceSum() + confidenceSum);
+            row.setLatencySumMs(row.getLatencySumMs() + latencySumMs);
+            long[] histogram = Arrays.copyOf(row.getLatencyHistogram(), latencyHistogram.length);
+            Histograms.addInto(histogram, latencyHistogram);
+            row.setLatencyHistogram(histogram);
+        }
+
+        private ModerationStats.HourlyStats toStats(LocalDateTime bucket) {
+            return ModerationStats.HourlyStats.builder()
+                    .bucketStart(bucket)
+                    .analyses(analyses)
+                    .approved(approved)
+                    .rejected(rejected)
+                    .manualReview(manualReview)
+                    .needsRevision(needsRevision)
+                    .averageConfidence(analyses > 0 ? confidenceSum / analyses : null)
+                    .averageLatencyMs(analyses > 0 ? (double) latencySumMs / analyses : null)
+                    .p50LatencyMs(Histograms.percentile(LATENCY_BOUNDS_MS, latencyHistogram, 0.50))
+                    .p95LatencyMs(Histograms.percentile(LATENCY_BOUNDS_MS, latencyHistogram, 0.95))
+                    .p99LatencyMs(Histograms.percentile(LATENCY_BOUNDS_MS, latencyHistogram, 0.99))
+                    .build();
+        }
+    }
+}
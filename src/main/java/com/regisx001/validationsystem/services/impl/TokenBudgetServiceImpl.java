@@ -0,0 +1,79 @@
+package com.regisx001.validationsystem.services.impl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+
+import com.regisx001.validationsystem.config.TokenBudgetConfig;
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
+import com.regisx001.validationsystem.services.TokenBudgetService;
+import com.regisx001.validationsystem.utils.TokenUsageWindow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+// Rolling token totals per model, kept in memory per instance; budgets are therefore per
+// instance too and should be divided by the number of instances sharing an API key
+@Service
+@RequiredArgsConstructor
+public class TokenBudgetServiceImpl implements TokenBudgetService {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+    private static final Duration DAY = Duration.ofDays(1);
+
+    private final TokenBudgetConfig config;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ModelUsage> usageByModel = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String model, TokenUsage usage) {
+        if (usage == null) {
+            return;
+        }
+        ModelUsage modelUsage = usageByModel.computeIfAbsent(model, this::createUsage);
+        modelUsage.window.record(usage.totalTokens(), System.currentTimeMillis());
+        modelUsage.promptTokens.increment(usage.getPromptTokens());
+        modelUsage.completionTokens.increment(usage.getCompletionTokens());
+    }
+
+    @Override
+    public boolean isConstrained(String model) {
+        if (!config.isEnabled()) {
+            return false;
+        }
+        TokenBudgetConfig.Limits limits = config.limitsFor(model);
+        ModelUsage modelUsage = usageByModel.computeIfAbsent(model, this::createUsage);
+        long now = System.currentTimeMillis();
+        return exceeds(modelUsage.window.sum(HOUR, now), limits.getHourlyTokens())
+                || exceeds(modelUsage.window.sum(DAY, now), limits.getDailyTokens());
+    }
+
+    private boolean exceeds(long used, long budget) {
+        return budget > 0 && used >= budget * config.getDeferThreshold();
+    }
+
+    private ModelUsage createUsage(String model) {
+        ModelUsage usage = new ModelUsage(new TokenUsageWindow(),
+                Counter.builder("analysis.tokens").tag("model", model).tag("type", "prompt").register(meterRegistry),
+                Counter.builder("analysis.tokens").tag("model", model).tag("type", "completion")
+                        .register(meterRegistry));
+
+        Gauge.builder("analysis.tokens.window", usage.window, w -> w.sum(HOUR, System.currentTimeMillis()))
+                .tag("model", model).tag("window", "hour").register(meterRegistry);
+        Gauge.builder("analysis.tokens.window", usage.window, w -> w.sum(DAY, System.currentTimeMillis()))
+                .tag("model", model).tag("window", "day").register(meterRegistry);
+        Gauge.builder("analysis.tokens.budget", () -> config.limitsFor(model).getHourlyTokens())
+                .tag("model", model).tag("window", "hour").register(meterRegistry);
+        Gauge.builder("analysis.tokens.budget", () -> config.limitsFor(model).getDailyTokens())
+                .tag("model", model).tag("window", "day").register(meterRegistry);
+        return usage;
+    }
+
+    private record ModelUsage(TokenUsageWindow window, Counter promptTokens, Counter completionTokens) {
+    }
+}
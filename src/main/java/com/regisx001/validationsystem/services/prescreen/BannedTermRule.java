@@ -0,0 +1,28 @@
+package com.regisx001.validationsystem.services.prescreen;
+
+import java.util.Optional;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.regisx001.validationsystem.config.PreScreenConfig;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@Order(10)
+@RequiredArgsConstructor
+public class BannedTermRule implements PreScreenRule {
+
+    private final PreScreenConfig config;
+
+    @Override
+    public Optional<String> rejectionReason(Article article, ContentSignals signals) {
+        if (config.getMaxBannedTermHits() > 0 && signals.getBannedTermHits() >= config.getMaxBannedTermHits()) {
+            return Optional.of("Content contains " + signals.getBannedTermHits() + " banned term occurrence(s)");
+        }
+        return Optional.empty();
+    }
+}
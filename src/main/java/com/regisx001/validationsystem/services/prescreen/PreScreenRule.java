@@ -0,0 +1,12 @@
+package com.regisx001.validationsystem.services.prescreen;
+
+import java.util.Optional;
+
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+
+// A local check run before any LLM call. Every PreScreenRule bean is applied in order;
+// the first one returning a reason rejects the article.
+public interface PreScreenRule {
+    Optional<String> rejectionReason(Article article, ContentSignals signals);
+}
@@ -0,0 +1,31 @@
+package com.regisx001.validationsystem.services.prescreen;
+
+import java.util.Optional;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.regisx001.validationsystem.config.PreScreenConfig;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@Order(20)
+@RequiredArgsConstructor
+public class SpamHeuristicRule implements PreScreenRule {
+
+    private final PreScreenConfig config;
+
+    @Override
+    public Optional<String> rejectionReason(Article article, ContentSignals signals) {
+        if (signals.getSpamScore() >= config.getRejectSpamScore()) {
+            return Optional.of(String.format(
+                    "Spam heuristics score %.2f (longest repeated run %d, %d links, %.0f%% capitals)",
+                    signals.getSpamScore(), signals.getLongestCharRun(), signals.getLinkCount(),
+                    signals.getUppercaseRatio() * 100));
+        }
+        return Optional.empty();
+    }
+}
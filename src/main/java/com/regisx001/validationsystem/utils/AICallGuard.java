@@ -0,0 +1,145 @@
+package com.regisx001.validationsystem.utils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.regisx001.validationsystem.config.AIResilienceConfig;
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
+import com.regisx001.validationsystem.exceptions.AIUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Admission control in front of the provider: the circuit breaker rejects calls outright
+// while the provider is failing, and the adaptive limiter spaces out the rest
+@Component
+public class AICallGuard {
+
+    private final ArticleUtils utils;
+    private final AIResilienceConfig.RateLimit rateLimitConfig;
+    private final AIResilienceConfig.CircuitBreaker circuitConfig;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter throttledCounter;
+    private final Counter rejectedCounter;
+
+    public AICallGuard(AIResilienceConfig config, ArticleUtils utils, MeterRegistry meterRegistry) {
+        this.utils = utils;
+        this.rateLimitConfig = config.getRateLimit();
+        this.circuitConfig = config.getCircuitBreaker();
+        this.rateLimiter = new AdaptiveRateLimiter(rateLimitConfig.getInitialRequestsPerSecond(),
+                rateLimitConfig.getMinRequestsPerSecond(), rateLimitConfig.getMaxRequestsPerSecond(),
+                rateLimitConfig.getAdditiveIncrease(), rateLimitConfig.getMultiplicativeDecrease(),
+                rateLimitConfig.getLatencyTarget().toNanos(), rateLimitConfig.getTokensPerMinute());
+        this.circuitBreaker = new CircuitBreaker(circuitConfig.getFailureThreshold(),
+                circuitConfig.getOpenDuration().toNanos(), circuitConfig.getHalfOpenProbes());
+
+        Gauge.builder("analysis.provider.rate", rateLimiter, AdaptiveRateLimiter::currentRate)
+                .register(meterRegistry);
+        Gauge.builder("analysis.provider.tokens.available", rateLimiter, AdaptiveRateLimiter::availableTokens)
+                .register(meterRegistry);
+        Gauge.builder("analysis.provider.circuit.state", circuitBreaker, cb -> cb.state().ordinal())
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("analysis.provider.throttled").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("analysis.provider.rejected").register(meterRegistry);
+    }
+
+    // Blocks (parks) until the call may be sent; throws when the provider is unavailable
+    // or the wait would exceed the configured maximum. Returns the tokens reserved.
+    public int admit(ChatPrompt prompt) {
+        if (circuitConfig.isEnabled() && !circuitBreaker.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new AIUnavailableException("AI provider circuit is open",
+                    Duration.ofNanos(circuitBreaker.remainingOpenNanos()));
+        }
+        if (!rateLimitConfig.isEnabled()) {
+            return 0;
+        }
+
+        int tokens = estimate(prompt).totalTokens();
+        long waitNanos = rateLimiter.reserve(tokens, rateLimitConfig.getMaxWait().toNanos());
+        if (waitNanos < 0) {
+            releaseProbe();
+            rejectedCounter.increment();
+            throw new AIUnavailableException("AI provider rate limit reached", rateLimitConfig.getMaxWait());
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                releaseProbe();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the AI rate limiter", e);
+            }
+        }
+        return tokens;
+    }
+
+    // What a call is assumed to cost when the provider never reports its usage
+    public TokenUsage estimate(ChatPrompt prompt) {
+        int promptTokens = utils.estimateTokens(prompt.getUser())
+                + (prompt.getSystem() != null ? utils.estimateTokens(prompt.getSystem()) : 0);
+        return new TokenUsage(promptTokens, rateLimitConfig.getCompletionTokenEstimate());
+    }
+
+    // Replaces the estimate reserved by admit with the usage the provider reported
+    public void onUsage(int reservedTokens, TokenUsage usage) {
+        if (reservedTokens > 0 && usage != null) {
+            rateLimiter.adjustTokens(usage.totalTokens() - reservedTokens);
+        }
+    }
+
+    public void onSuccess(long latencyNanos) {
+        circuitBreaker.onSuccess();
+        rateLimiter.onResponse(latencyNanos, false);
+    }
+
+    public void onFailure(Throwable failure, long latencyNanos) {
+        boolean throttled = isThrottle(failure);
+        if (throttled) {
+            throttledCounter.increment();
+        }
+        circuitBreaker.onFailure();
+        rateLimiter.onResponse(latencyNanos, throttled);
+    }
+
+    public void onCancel() {
+        releaseProbe();
+    }
+
+    // Lets queue workers leave jobs in the table instead of claiming work that would fail
+    public boolean isAvailable() {
+        return !circuitConfig.isEnabled() || circuitBreaker.isCallPermitted();
+    }
+
+    public Duration retryAfter() {
+        return Duration.ofNanos(circuitBreaker.remainingOpenNanos());
+    }
+
+    // The call is not going out after all; a half-open probe claimed for it would otherwise
+    // never be returned and keep the circuit closed to everyone
+    private void releaseProbe() {
+        if (circuitConfig.isEnabled()) {
+            circuitBreaker.release();
+        }
+    }
+
+    private static boolean isThrottle(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof HttpClientErrorException.TooManyRequests) {
+                return true;
+            }
+            // Spring AI surfaces provider errors as "<status> - <body>" messages
+            String message = t.getMessage();
+            if (message != null && (message.startsWith("429") || message.contains("rate_limit"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
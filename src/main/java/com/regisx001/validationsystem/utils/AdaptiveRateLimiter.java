@@ -0,0 +1,97 @@
+package com.regisx001.validationsystem.utils;
+
+// Client-side limiter for requests per second and tokens per minute. Callers reserve
+// a slot and are told how long to wait, so waiting happens outside the lock (and costs
+// nothing but a parked virtual thread). The request rate adapts AIMD-style: it creeps
+// up while responses are fast and is cut multiplicatively on throttling or high latency.
+public final class AdaptiveRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+
+    private final double minRate;
+    private final double maxRate;
+    private final double additiveIncrease;
+    private final double multiplicativeDecrease;
+    private final long latencyTargetNanos;
+    private final long decreaseCooldownNanos;
+
+    private final double tokenCapacity;
+    private final double tokensPerNano;
+
+    private double rate;
+    private long nextFreeNanos;
+    private long lastDecreaseNanos;
+    private double tokenBalance;
+    private long tokenStampNanos;
+
+    public AdaptiveRateLimiter(double initialRate, double minRate, double maxRate, double additiveIncrease,
+            double multiplicativeDecrease, long latencyTargetNanos, int tokensPerMinute) {
+        this.rate = initialRate;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.additiveIncrease = additiveIncrease;
+        this.multiplicativeDecrease = multiplicativeDecrease;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.decreaseCooldownNanos = NANOS_PER_SECOND;
+        this.tokenCapacity = tokensPerMinute;
+        this.tokensPerNano = (double) tokensPerMinute / NANOS_PER_MINUTE;
+
+        long now = System.nanoTime();
+        this.nextFreeNanos = now;
+        this.lastDecreaseNanos = now - decreaseCooldownNanos;
+        this.tokenBalance = tokenCapacity;
+        this.tokenStampNanos = now;
+    }
+
+    // Returns the nanoseconds the caller must wait before sending, or -1 (and reserves
+    // nothing) when that wait would exceed maxWaitNanos
+    public synchronized long reserve(int tokens, long maxWaitNanos) {
+        long now = System.nanoTime();
+        refillTokens(now);
+
+        double needed = Math.min(tokens, tokenCapacity);
+        long requestWait = Math.max(0, nextFreeNanos - now);
+        long tokenWait = tokenBalance >= needed ? 0 : (long) ((needed - tokenBalance) / tokensPerNano);
+        long wait = Math.max(requestWait, tokenWait);
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+
+        nextFreeNanos = now + wait + (long) (NANOS_PER_SECOND / rate);
+        tokenBalance -= needed;
+        return wait;
+    }
+
+    // Corrects a reservation once the real token usage is known
+    public synchronized void adjustTokens(int delta) {
+        tokenBalance -= delta;
+    }
+
+    public synchronized void onResponse(long latencyNanos, boolean throttled) {
+        long now = System.nanoTime();
+        if (throttled || latencyNanos > latencyTargetNanos) {
+            // One cut per cooldown, so a burst of responses to the same overload is not over-penalised
+            if (now - lastDecreaseNanos >= decreaseCooldownNanos) {
+                rate = Math.max(minRate, rate * multiplicativeDecrease);
+                lastDecreaseNanos = now;
+            }
+        } else {
+            rate = Math.min(maxRate, rate + additiveIncrease / Math.max(rate, 1));
+        }
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+
+    public synchronized double availableTokens() {
+        refillTokens(System.nanoTime());
+        return tokenBalance;
+    }
+
+    private void refillTokens(long now) {
+        tokenBalance = Math.min(tokenCapacity, tokenBalance + (now - tokenStampNanos) * tokensPerNano);
+        tokenStampNanos = now;
+    }
+}
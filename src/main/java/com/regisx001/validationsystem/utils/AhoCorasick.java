@@ -0,0 +1,115 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+// Multi-pattern matcher driven one character at a time, so callers can run it inside
+// their own scanning loop. Transitions are stored as sorted char/int arrays per state,
+// which keeps matching free of allocation and boxing.
+public final class AhoCorasick {
+
+    public static final int ROOT = 0;
+
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    private final int[] matchCount;
+
+    public AhoCorasick(Collection<String> patterns) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(0);
+
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = trie.get(state).get(pattern.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminal.add(0);
+                    trie.get(state).put(pattern.charAt(i), next);
+                }
+                state = next;
+            }
+            terminal.set(state, terminal.get(state) + 1);
+        }
+
+        int size = trie.size();
+        transitionChars = new char[size][];
+        transitionTargets = new int[size][];
+        failure = new int[size];
+        matchCount = new int[size];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> edges = trie.get(state);
+            transitionChars[state] = new char[edges.size()];
+            transitionTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                transitionChars[state][i] = edge.getKey();
+                transitionTargets[state][i] = edge.getValue();
+                i++;
+            }
+            matchCount[state] = terminal.get(state);
+        }
+
+        // Breadth-first so every failure target is final before its dependants are computed
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionTargets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                char c = transitionChars[state][i];
+                int child = transitionTargets[state][i];
+                int fallback = failure[state];
+                while (fallback != ROOT && edge(fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int target = edge(fallback, c);
+                failure[child] = target >= 0 && target != child ? target : ROOT;
+                matchCount[child] += matchCount[failure[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    public int next(int state, char c) {
+        while (true) {
+            int target = edge(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    // Number of patterns that end at the position which led to this state
+    public int matchesAt(int state) {
+        return matchCount[state];
+    }
+
+    public boolean isEmpty() {
+        return transitionChars[ROOT].length == 0;
+    }
+
+    private int edge(int state, char c) {
+        int index = Arrays.binarySearch(transitionChars[state], c);
+        return index >= 0 ? transitionTargets[state][index] : -1;
+    }
+}
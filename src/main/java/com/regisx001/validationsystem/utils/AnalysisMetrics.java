@@ -0,0 +1,69 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+// Per-stage timings of the analysis pipeline as one timer, analysis.stage{stage, model, outcome}.
+// Histogram buckets for it are enabled in application.yaml (management.metrics.distribution).
+@Component
+@RequiredArgsConstructor
+public class AnalysisMetrics {
+
+    public static final String VALIDATE = "validate";
+    public static final String PRESCREEN = "prescreen";
+    public static final String CACHE = "cache";
+    public static final String PROMPT = "prompt";
+    public static final String LLM = "llm";
+    public static final String PARSE = "parse";
+    public static final String ANALYSE = "analyse";
+    public static final String ORIGINALITY = "originality";
+    public static final String PERSIST = "persist";
+    public static final String TOTAL = "total";
+
+    private final MeterRegistry meterRegistry;
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void record(String stage, String model, String outcome, long startNanos) {
+        Timer.builder("analysis.stage")
+                .tag("stage", stage)
+                .tag("model", model)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void decision(AnalyseDecision decision, String model) {
+        Counter.builder("analysis.decisions")
+                .tag("decision", outcome(decision))
+                .tag("model", model)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // Replies that could not be read or completed and were replaced with the neutral manual-review fallback
+    public void parseFallback(String model) {
+        Counter.builder("analysis.parse.fallbacks").tag("model", model).register(meterRegistry).increment();
+    }
+
+    // Follow-up calls for fields a reply left out; outcome is repaired or failed
+    public void repair(String model, String outcome) {
+        Counter.builder("analysis.parse.repairs").tag("model", model).tag("outcome", outcome).register(meterRegistry)
+                .increment();
+    }
+
+    public static String outcome(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,34 @@
+package com.regisx001.validationsystem.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.regisx001.validationsystem.domain.enums.ArticleListOrder;
+
+// Position after the last row of a keyset page. Clients treat the encoded form as opaque.
+public record ArticleCursor(ArticleListOrder order, LocalDateTime timestamp, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = order.name() + SEPARATOR + timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3) {
+                throw new IllegalStateException("Invalid cursor");
+            }
+            return new ArticleCursor(ArticleListOrder.valueOf(parts[0]), LocalDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalStateException("Invalid cursor", e);
+        }
+    }
+}
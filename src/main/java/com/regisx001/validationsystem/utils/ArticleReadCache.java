@@ -0,0 +1,75 @@
+package com.regisx001.validationsystem.utils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.regisx001.validationsystem.config.ReadCacheConfig;
+import com.regisx001.validationsystem.domain.entities.AnalyseHistory;
+import com.regisx001.validationsystem.domain.entities.AnalyseResult;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.events.ArticleAnalysedEvent;
+import com.regisx001.validationsystem.domain.events.ArticleStatusChangedEvent;
+import com.regisx001.validationsystem.domain.events.ArticleUpdatedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Read-through caches behind the article detail endpoints, which the frontend polls while an
+// analysis runs. Writers publish their events after committing and the listeners run
+// synchronously, so a write has invalidated these caches by the time it returns. There is no
+// shared tier: other instances only see the write once their entry's TTL runs out.
+// Cached entities are shared between readers and must not be modified.
+@Component
+public class ArticleReadCache {
+
+    private final ReadCacheConfig config;
+    private final ReadThroughCache<UUID, Article> articles;
+    private final ReadThroughCache<UUID, Optional<AnalyseResult>> latestReviews;
+    private final ReadThroughCache<UUID, List<AnalyseHistory>> histories;
+
+    public ArticleReadCache(ReadCacheConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        Duration ttl = config.effectiveTtl();
+        this.articles = new ReadThroughCache<>("article", config.getMaxEntries(), ttl, meterRegistry);
+        this.latestReviews = new ReadThroughCache<>("review", config.getMaxEntries(), ttl, meterRegistry);
+        this.histories = new ReadThroughCache<>("history", config.getMaxEntries(), ttl, meterRegistry);
+    }
+
+    public Article article(UUID id, Function<UUID, Article> loader) {
+        return config.isEnabled() ? articles.get(id, loader) : loader.apply(id);
+    }
+
+    public Optional<AnalyseResult> latestReview(UUID articleId, Function<UUID, Optional<AnalyseResult>> loader) {
+        return config.isEnabled() ? latestReviews.get(articleId, loader) : loader.apply(articleId);
+    }
+
+    public List<AnalyseHistory> history(UUID articleId, Function<UUID, List<AnalyseHistory>> loader) {
+        return config.isEnabled() ? histories.get(articleId, loader) : loader.apply(articleId);
+    }
+
+    @EventListener
+    public void onUpdated(ArticleUpdatedEvent event) {
+        articles.invalidate(event.articleId());
+    }
+
+    @EventListener
+    public void onStatusChanged(ArticleStatusChangedEvent event) {
+        articles.invalidate(event.articleId());
+        if (event.toStatus() == null) {
+            latestReviews.invalidate(event.articleId());
+            histories.invalidate(event.articleId());
+        }
+    }
+
+    @EventListener
+    public void onAnalysed(ArticleAnalysedEvent event) {
+        articles.invalidate(event.articleId());
+        latestReviews.invalidate(event.articleId());
+        histories.invalidate(event.articleId());
+    }
+}
@@ -1,17 +1,28 @@
 package com.regisx001.validationsystem.utils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.regisx001.validationsystem.config.AIAnalysisConfig;
 import com.regisx001.validationsystem.config.AIPromptTemplates;
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
 import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.dtos.OriginalityCheck;
 import com.regisx001.validationsystem.domain.entities.AnalyseResult;
 import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
 import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
 
 import lombok.RequiredArgsConstructor;
@@ -20,8 +31,36 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ArticleUtils {
 
+    public static final String FALLBACK_RECOMMENDATION = "NEEDS_MANUAL_REVIEW";
+
+    // Recorded as the AI model of analyses decided by local pre-screening
+    public static final String PRESCREEN_MODEL = "local-prescreen";
+
+    // System messages are fixed per prompt kind and built once
+    private static final String CONTENT_ANALYSIS_SYSTEM = AIPromptTemplates.SYSTEM_PROMPT + "\n"
+            + AIPromptTemplates.CONTENT_ANALYSIS_INSTRUCTIONS;
+    private static final String CHUNK_ANALYSIS_SYSTEM = AIPromptTemplates.SYSTEM_PROMPT + "\n"
+            + AIPromptTemplates.CHUNK_ANALYSIS_INSTRUCTIONS;
+    private static final String BATCH_ANALYSIS_SYSTEM = AIPromptTemplates.SYSTEM_PROMPT + "\n"
+            + AIPromptTemplates.BATCH_CONTENT_ANALYSIS_INSTRUCTIONS;
+
+    private static final PromptTemplate CONTENT_ANALYSIS_INPUT = PromptTemplate
+            .compile(AIPromptTemplates.CONTENT_ANALYSIS_INPUT);
+    private static final PromptTemplate CHUNK_ANALYSIS_INPUT = PromptTemplate
+            .compile(AIPromptTemplates.CHUNK_ANALYSIS_INPUT);
+    private static final PromptTemplate BATCH_ANALYSIS_INPUT = PromptTemplate
+            .compile(AIPromptTemplates.BATCH_CONTENT_ANALYSIS_INPUT);
+
+    private static final String REPAIR_SYSTEM = AIPromptTemplates.SYSTEM_PROMPT + "\n"
+            + AIPromptTemplates.REPAIR_INSTRUCTIONS;
+    private static final PromptTemplate REPAIR_INPUT = PromptTemplate.compile(AIPromptTemplates.REPAIR_INPUT);
+
+    private static final String OMITTED_MARKER = "\n\n[... middle of the article omitted for length ...]\n\n";
+
     private final AIAnalysisConfig config;
     private final ObjectMapper objectMapper;
+    private final AnalysisMetrics metrics;
+    private final AnalysisPromptConfig promptConfig;
 
     @Value("${spring.ai.openai.chat.options.model}")
     private String model;
@@ -31,31 +70,221 @@ public class ArticleUtils {
     }
 
     public boolean isValidForAnalysis(Article article) {
-        int wordCount = article.getContent().split("\\s+").length;
+        int wordCount = ContentScanner.countWords(article.getContent());
         return wordCount >= config.getMinWordCount() &&
                 wordCount <= config.getMaxWordCount() &&
                 article.getTitle() != null && !article.getTitle().trim().isEmpty();
     }
 
-    public String buildAnalysisPrompt(Article article) {
-        return AIPromptTemplates.CONTENT_ANALYSIS_PROMPT
-                .replace("{title}", article.getTitle())
-                .replace("{content}", article.getContent());
+    public ChatPrompt buildAnalysisPrompt(Article article) {
+        long start = metrics.start();
+        String content = fitContent(article.getContent());
+        ChatPrompt prompt = ChatPrompt.builder()
+                .system(CONTENT_ANALYSIS_SYSTEM)
+                .user(CONTENT_ANALYSIS_INPUT.render(Map.of("title", article.getTitle(), "content", content)))
+                .build();
+        metrics.record(AnalysisMetrics.PROMPT, model, content == article.getContent() ? "built" : "truncated",
+                start);
+        return prompt;
     }
 
+    public ChatPrompt buildChunkAnalysisPrompt(String title, String section) {
+        return ChatPrompt.builder()
+                .system(CHUNK_ANALYSIS_SYSTEM)
+                .user(CHUNK_ANALYSIS_INPUT.render(Map.of("title", title, "content", section)))
+                .build();
+    }
+
+    // Keeps the start and end of content over the token budget and drops the middle, cutting at
+    // whitespace; returns the content itself when it fits
+    public String fitContent(String content) {
+        int maxTokens = promptConfig.getMaxContentTokens();
+        if (maxTokens <= 0 || estimateTokens(content) <= maxTokens) {
+            return content;
+        }
+
+        // Inverse of estimateTokens
+        int keepChars = maxTokens * 4;
+        int headEnd = (int) (keepChars * promptConfig.getHeadShare());
+        int tailStart = content.length() - (keepChars - headEnd);
+        int headCut = content.lastIndexOf(' ', headEnd);
+        int tailCut = content.indexOf(' ', tailStart);
+        headEnd = headCut > 0 ? headCut : headEnd;
+        tailStart = tailCut >= 0 && tailCut < content.length() - 1 ? tailCut + 1 : tailStart;
+        if (tailStart <= headEnd) {
+            return content;
+        }
+
+        return new StringBuilder(headEnd + OMITTED_MARKER.length() + content.length() - tailStart)
+                .append(content, 0, headEnd)
+                .append(OMITTED_MARKER)
+                .append(content, tailStart, content.length())
+                .toString();
+    }
+
+    // Rough size estimate (about four characters per token) used for budgeting, not billing
+    public int estimateTokens(String text) {
+        return (text.length() + 3) / 4;
+    }
+
+    public ChatPrompt buildBatchAnalysisPrompt(List<Article> articles) {
+        int length = 0;
+        for (Article article : articles) {
+            length += article.getTitle().length() + article.getContent().length() + 32;
+        }
+        // The boundary is new per prompt, so article text cannot close its own entry and pose as the next one
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        StringBuilder entries = new StringBuilder(length + articles.size() * 2 * (boundary.length() + 32));
+        for (int i = 0; i < articles.size(); i++) {
+            Article article = articles.get(i);
+            entries.append("<<<BEGIN ARTICLE ").append(i + 1).append(' ').append(boundary).append(">>>\n")
+                    .append("Title: ").append(article.getTitle()).append('\n')
+                    .append("Content: ").append(article.getContent()).append('\n')
+                    .append("<<<END ARTICLE ").append(i + 1).append(' ').append(boundary).append(">>>\n\n");
+        }
+        return ChatPrompt.builder()
+                .system(BATCH_ANALYSIS_SYSTEM)
+                .user(BATCH_ANALYSIS_INPUT.render(Map.of("count", String.valueOf(articles.size()),
+                        "boundary", boundary, "articles", entries)))
+                .build();
+    }
+
+    // Returns one entry per article; entries the model left out or mangled are null
+    public List<AIAnalysisResponse> parseBatchAIResponse(String response, int articleCount) {
+        List<AIAnalysisResponse> results = new ArrayList<>(Collections.<AIAnalysisResponse>nCopies(articleCount, null));
+        JsonNode root = readTree(response, '[');
+        if (root == null || !root.isArray()) {
+            // Leave every entry empty so callers fall back to single-article analysis
+            return results;
+        }
+        for (int i = 0; i < root.size(); i++) {
+            JsonNode entry = root.get(i);
+            int index = entry.hasNonNull("articleIndex") ? entry.get("articleIndex").asInt() - 1 : i;
+            if (index < 0 || index >= articleCount || results.get(index) != null) {
+                continue;
+            }
+            try {
+                AIAnalysisResponse parsed = objectMapper.treeToValue(entry, AIAnalysisResponse.class);
+                if (missingFields(parsed).isEmpty()) {
+                    results.set(index, parsed);
+                }
+            } catch (JsonProcessingException e) {
+                // Analysed individually instead
+            }
+        }
+        return results;
+    }
+
+    // Strict variant for callers that cannot ask the model to fill gaps: an incomplete reply is
+    // replaced with the neutral manual-review fallback
     public AIAnalysisResponse parseAIResponse(String response) {
+        AIAnalysisResponse parsed = readAIResponse(response).orElse(null);
+        return parsed != null && missingFields(parsed).isEmpty() ? parsed : fallbackResponse();
+    }
+
+    // Reads the analysis object out of a reply that may carry prose, markdown fences, trailing
+    // commas or a truncated end; empty when no object can be recovered
+    public Optional<AIAnalysisResponse> readAIResponse(String response) {
+        long start = metrics.start();
+        JsonNode root = readTree(response, '{');
+        if (root == null || !root.isObject()) {
+            metrics.record(AnalysisMetrics.PARSE, model, "unreadable", start);
+            return Optional.empty();
+        }
         try {
-            return objectMapper.readValue(response, AIAnalysisResponse.class);
-        } catch (Exception e) {
-            return AIAnalysisResponse.builder()
-                    .overallScore(0.5) // Neutral score
-                    .recommendation("NEEDS_MANUAL_REVIEW")
-                    .feedback("AI analysis completed but requires manual review. Raw response: " + response)
-                    .recommendations(List.of("Manual review required"))
-                    .build();
+            AIAnalysisResponse parsed = objectMapper.treeToValue(root, AIAnalysisResponse.class);
+            metrics.record(AnalysisMetrics.PARSE, model, "parsed", start);
+            return Optional.of(parsed);
+        } catch (JsonProcessingException e) {
+            metrics.record(AnalysisMetrics.PARSE, model, "unreadable", start);
+            return Optional.empty();
         }
     }
 
+    // Fields a decision and a usable review cannot do without; the rest of the reply is optional
+    public List<String> missingFields(AIAnalysisResponse response) {
+        List<String> missing = new ArrayList<>(2);
+        Double score = response.getOverallScore();
+        if (score == null || score < 0 || score > 1) {
+            missing.add("overallScore");
+        }
+        if (isBlank(response.getFeedback())
+                && (response.getContentQuality() == null || isBlank(response.getContentQuality().getFeedback()))
+                && (response.getGrammar() == null || isBlank(response.getGrammar().getFeedback()))
+                && (response.getAppropriateness() == null || isBlank(response.getAppropriateness().getFeedback()))) {
+            missing.add("feedback");
+        }
+        return missing;
+    }
+
+    public ChatPrompt buildRepairPrompt(AIAnalysisResponse partial, List<String> missingFields) {
+        String analysis;
+        try {
+            analysis = objectMapper.writeValueAsString(partial);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise a partial analysis", e);
+        }
+        return ChatPrompt.builder()
+                .system(REPAIR_SYSTEM)
+                .user(REPAIR_INPUT.render(Map.of("fields", String.join(", ", missingFields), "analysis", analysis)))
+                .build();
+    }
+
+    // Copies only the requested fields, so the repair cannot rewrite what the first reply said
+    public void applyRepair(AIAnalysisResponse partial, AIAnalysisResponse repair, List<String> missingFields) {
+        if (missingFields.contains("overallScore")) {
+            partial.setOverallScore(repair.getOverallScore());
+        }
+        if (missingFields.contains("feedback")) {
+            partial.setFeedback(repair.getFeedback());
+        }
+    }
+
+    public AIAnalysisResponse fallbackResponse() {
+        metrics.parseFallback(model);
+        return AIAnalysisResponse.builder()
+                .overallScore(0.5) // Neutral score
+                .recommendation(FALLBACK_RECOMMENDATION)
+                .feedback("AI analysis completed but requires manual review: the model's reply could not be read.")
+                .recommendations(List.of("Manual review required"))
+                .build();
+    }
+
+    private JsonNode readTree(String response, char open) {
+        if (response == null) {
+            return null;
+        }
+        for (String candidate : LenientJsonExtractor.candidates(response, open)) {
+            try {
+                return objectMapper.readTree(candidate);
+            } catch (JsonProcessingException e) {
+                // Try the next repair
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String text) {
+        return text == null || text.isBlank();
+    }
+
+    public AIAnalysisResponse buildPreScreenRejection(ContentSignals signals) {
+        return AIAnalysisResponse.builder()
+                .overallScore(0.0)
+                .recommendation("REJECTED")
+                .feedback("Rejected by automated pre-screening: " + signals.getPrescreenReason())
+                .recommendations(List.of("Remove spam, banned terms or repeated characters before resubmitting"))
+                .build();
+    }
+
+    public boolean isFallbackResponse(AIAnalysisResponse response) {
+        return FALLBACK_RECOMMENDATION.equals(response.getRecommendation());
+    }
+
+    public double getAutoRejectionThreshold() {
+        return config.getAutoRejectionThreshold();
+    }
+
     public AnalyseDecision determineDecision(AIAnalysisResponse response) {
         double score = response.getOverallScore();
 
@@ -68,6 +297,18 @@ public class ArticleUtils {
         }
     }
 
+    // Near-duplicates are never auto-approved, whatever the LLM concluded about their quality
+    public void applyOriginality(AnalyseResult result, OriginalityCheck originality) {
+        result.setOriginalityScore(originality.getOriginalityScore());
+        if (originality.getSimilarity() >= config.getPlagiarismThreshold()
+                && result.getDecision() == AnalyseDecision.APPROVED) {
+            result.setDecision(AnalyseDecision.REQUIRES_MANUAL_REVIEW);
+            result.setAiAnalysis(String.format("Possible duplicate of article %s (%.0f%% similar). %s",
+                    originality.getMostSimilarArticleId(), originality.getSimilarity() * 100,
+                    result.getAiAnalysis()));
+        }
+    }
+
     public AnalyseResult buildApprovalResult(Article article, AIAnalysisResponse response, Integer processingTimeMs) {
         AnalyseDecision decision = determineDecision(response);
 
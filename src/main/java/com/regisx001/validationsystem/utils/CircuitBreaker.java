@@ -0,0 +1,83 @@
+package com.regisx001.validationsystem.utils;
+
+// Opens after failureThreshold consecutive failures and rejects calls for openNanos.
+// It then lets up to halfOpenProbes calls through: one success closes it again, a
+// failure re-opens it for another full period.
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private int probesInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openNanos, int halfOpenProbes) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    // Whether tryAcquire would currently let a call through, without claiming a probe
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> System.nanoTime() - openedAtNanos >= openNanos;
+            case HALF_OPEN -> probesInFlight < halfOpenProbes;
+        };
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probesInFlight = 0;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+            probesInFlight = 0;
+        }
+    }
+
+    // For calls abandoned before an outcome was known, e.g. a cancelled stream
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized long remainingOpenNanos() {
+        return state == State.OPEN ? Math.max(0, openNanos - (System.nanoTime() - openedAtNanos)) : 0;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,121 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.regisx001.validationsystem.config.AnalysisChunkConfig;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ContentChunker {
+
+    public record Chunk(int index, String text, String hash, int tokens) {
+    }
+
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\R\\s*\\R");
+    private static final Pattern SENTENCE_BREAK = Pattern.compile("(?<=[.!?])\\s+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AnalysisChunkConfig config;
+    private final ArticleUtils utils;
+
+    // Splits content on blank lines and packs paragraphs into sections of at most maxChunkTokens.
+    // Boundaries are content-defined: a heading always starts a new section, and past
+    // minChunkTokens a section ends after any paragraph whose own hash marks it as an anchor.
+    // Inserting a paragraph therefore only moves the boundaries around it instead of shifting
+    // every later one. The title is part of each hash because it is part of each section's prompt.
+    public List<Chunk> split(String title, String content) {
+        List<String> paragraphs = new ArrayList<>();
+        for (String paragraph : PARAGRAPH_BREAK.split(content)) {
+            String text = paragraph.strip();
+            if (!text.isEmpty()) {
+                paragraphs.addAll(fitToBudget(text));
+            }
+        }
+
+        // Fixed for every article: a target derived from the article's length would move all of its
+        // boundaries whenever an edit pushed the length across a threshold
+        int spacing = Math.max(config.getTargetChunkTokens() - config.getMinChunkTokens(), 1);
+        List<Chunk> chunks = new ArrayList<>();
+        StringBuilder section = new StringBuilder();
+        int sectionTokens = 0;
+
+        for (String text : paragraphs) {
+            int tokens = utils.estimateTokens(text);
+            boolean overBudget = sectionTokens + tokens > config.getMaxChunkTokens();
+            if (section.length() > 0 && (text.startsWith("#") || overBudget)) {
+                chunks.add(toChunk(chunks.size(), title, section));
+                section.setLength(0);
+                sectionTokens = 0;
+            }
+
+            if (section.length() > 0) {
+                section.append("\n\n");
+            }
+            section.append(text);
+            sectionTokens += tokens;
+
+            if (sectionTokens >= config.getMinChunkTokens() && isAnchor(text, tokens, spacing)) {
+                chunks.add(toChunk(chunks.size(), title, section));
+                section.setLength(0);
+                sectionTokens = 0;
+            }
+        }
+
+        if (section.length() > 0) {
+            chunks.add(toChunk(chunks.size(), title, section));
+        }
+        return chunks;
+    }
+
+    // A paragraph is an anchor with probability proportional to its size, so sections run on
+    // average about spacing tokens past the minimum whatever the paragraph lengths are
+    private static boolean isAnchor(String paragraph, int tokens, int spacing) {
+        int hash = paragraph.hashCode() * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), spacing) < tokens;
+    }
+
+    // Breaks a paragraph larger than the budget at sentence ends, or at word boundaries
+    // for a single run-on sentence
+    private List<String> fitToBudget(String paragraph) {
+        if (utils.estimateTokens(paragraph) <= config.getMaxChunkTokens()) {
+            return List.of(paragraph);
+        }
+
+        List<String> pieces = new ArrayList<>();
+        StringBuilder piece = new StringBuilder();
+        int pieceTokens = 0;
+        for (String sentence : SENTENCE_BREAK.split(paragraph)) {
+            List<String> parts = utils.estimateTokens(sentence) <= config.getMaxChunkTokens()
+                    ? List.of(sentence)
+                    : List.of(WHITESPACE.split(sentence));
+            for (String part : parts) {
+                int tokens = utils.estimateTokens(part);
+                if (piece.length() > 0 && pieceTokens + tokens > config.getMaxChunkTokens()) {
+                    pieces.add(piece.toString());
+                    piece.setLength(0);
+                    pieceTokens = 0;
+                }
+                if (piece.length() > 0) {
+                    piece.append(' ');
+                }
+                piece.append(part);
+                pieceTokens += tokens;
+            }
+        }
+        if (piece.length() > 0) {
+            pieces.add(piece.toString());
+        }
+        return pieces;
+    }
+
+    private Chunk toChunk(int index, String title, StringBuilder section) {
+        String text = section.toString();
+        return new Chunk(index, text, ContentHashing.fingerprint(title, text), utils.estimateTokens(text));
+    }
+}
@@ -0,0 +1,53 @@
+package com.regisx001.validationsystem.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class ContentHashing {
+
+    private ContentHashing() {
+    }
+
+    // SHA-256 over the whitespace-normalized parts joined with NUL separators
+    public static String fingerprint(String... parts) {
+        int capacity = 0;
+        for (String part : parts) {
+            capacity += part.length() + 1;
+        }
+
+        StringBuilder key = new StringBuilder(capacity);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                key.append('\u0000');
+            }
+            appendNormalized(key, parts[i]);
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Trims and collapses whitespace runs so formatting-only edits hash identically
+    private static void appendNormalized(StringBuilder target, String value) {
+        int start = target.length();
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && target.length() > start) {
+                target.append(' ');
+            }
+            pendingSpace = false;
+            target.append(c);
+        }
+    }
+}
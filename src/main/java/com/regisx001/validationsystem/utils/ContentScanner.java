@@ -0,0 +1,179 @@
+package com.regisx001.validationsystem.utils;
+
+// Computes every pre-screening signal in a single pass over the content without
+// allocating per character or per word. Banned terms are matched on word boundaries:
+// the automaton is fed lower-cased word characters with each separator run collapsed
+// to one space, and patterns are built with bannedTermPattern so they pass the same filter.
+public final class ContentScanner {
+
+    public record Scan(
+            int wordCount,
+            int sentenceCount,
+            int syllableCount,
+            int letterCount,
+            int uppercaseCount,
+            int longestCharRun,
+            int linkCount,
+            int bannedTermHits) {
+
+        // Flesch reading ease; higher is easier, typical prose falls between 30 and 80
+        public double readability() {
+            if (wordCount == 0) {
+                return 0;
+            }
+            return 206.835 - 1.015 * ((double) wordCount / Math.max(sentenceCount, 1))
+                    - 84.6 * ((double) syllableCount / wordCount);
+        }
+
+        public double uppercaseRatio() {
+            return letterCount == 0 ? 0 : (double) uppercaseCount / letterCount;
+        }
+    }
+
+    private ContentScanner() {
+    }
+
+    public static int countWords(CharSequence content) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < content.length(); i++) {
+            boolean wordChar = !Character.isWhitespace(content.charAt(i));
+            if (wordChar && !inWord) {
+                words++;
+            }
+            inWord = wordChar;
+        }
+        return words;
+    }
+
+    // A term in the form the scan feeds the automaton: lower-cased word characters, every other
+    // run collapsed to one space, padded so it only matches whole words. Null when no word is left.
+    public static String bannedTermPattern(String term) {
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append(' ');
+        boolean inWord = false;
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (Character.isLetterOrDigit(c) || (c == '\'' && inWord)) {
+                pattern.append(Character.toLowerCase(c));
+                inWord = true;
+            } else if (inWord) {
+                pattern.append(' ');
+                inWord = false;
+            }
+        }
+        if (pattern.length() == 1) {
+            return null;
+        }
+        if (inWord) {
+            pattern.append(' ');
+        }
+        return pattern.toString();
+    }
+
+    public static Scan scan(CharSequence content, AhoCorasick bannedTerms) {
+        int words = 0;
+        int sentences = 0;
+        int syllables = 0;
+        int letters = 0;
+        int uppercase = 0;
+        int longestRun = 0;
+        int links = 0;
+        int bannedHits = 0;
+
+        boolean inWord = false;
+        boolean sentenceOpen = false;
+        boolean previousVowel = false;
+        int wordSyllables = 0;
+        char lastLetter = 0;
+
+        int run = 0;
+        char previous = 0;
+        char beforePrevious = 0;
+
+        int matchState = bannedTerms.next(AhoCorasick.ROOT, ' ');
+        boolean separatorFed = true;
+
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                run = 0;
+            } else {
+                run = c == previous ? run + 1 : 1;
+                longestRun = Math.max(longestRun, run);
+            }
+
+            if (c == '/' && previous == '/' && beforePrevious == ':') {
+                links++;
+            }
+
+            if (Character.isLetterOrDigit(c) || (c == '\'' && inWord)) {
+                if (!inWord) {
+                    words++;
+                    inWord = true;
+                    wordSyllables = 0;
+                    previousVowel = false;
+                }
+
+                char lower = Character.toLowerCase(c);
+                if (Character.isLetter(c)) {
+                    letters++;
+                    if (Character.isUpperCase(c)) {
+                        uppercase++;
+                    }
+                    boolean vowel = lower == 'a' || lower == 'e' || lower == 'i' || lower == 'o' || lower == 'u'
+                            || lower == 'y';
+                    if (vowel && !previousVowel) {
+                        wordSyllables++;
+                    }
+                    previousVowel = vowel;
+                    lastLetter = lower;
+                }
+                sentenceOpen = true;
+
+                matchState = bannedTerms.next(matchState, lower);
+                bannedHits += bannedTerms.matchesAt(matchState);
+                separatorFed = false;
+            } else {
+                if (inWord) {
+                    syllables += wordSyllables(wordSyllables, lastLetter);
+                    inWord = false;
+                    lastLetter = 0;
+                }
+                if ((c == '.' || c == '!' || c == '?') && sentenceOpen) {
+                    sentences++;
+                    sentenceOpen = false;
+                }
+                if (!separatorFed) {
+                    matchState = bannedTerms.next(matchState, ' ');
+                    bannedHits += bannedTerms.matchesAt(matchState);
+                    separatorFed = true;
+                }
+            }
+
+            beforePrevious = previous;
+            previous = c;
+        }
+
+        if (inWord) {
+            syllables += wordSyllables(wordSyllables, lastLetter);
+        }
+        if (sentenceOpen) {
+            sentences++;
+        }
+        if (!separatorFed) {
+            matchState = bannedTerms.next(matchState, ' ');
+            bannedHits += bannedTerms.matchesAt(matchState);
+        }
+
+        return new Scan(words, sentences, syllables, letters, uppercase, longestRun, links, bannedHits);
+    }
+
+    // Vowel groups approximate syllables; a trailing silent 'e' is discounted
+    private static int wordSyllables(int vowelGroups, char lastLetter) {
+        if (lastLetter == 'e' && vowelGroups > 1) {
+            vowelGroups--;
+        }
+        return Math.max(vowelGroups, 1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.regisx001.validationsystem.utils;
+
+// Fixed-bucket histograms as plain count arrays: bucket i holds values below bounds[i],
+// the last bucket everything at or above the final bound
+public final class Histograms {
+
+    private Histograms() {
+    }
+
+    public static int bucketOf(double[] bounds, double value) {
+        for (int i = 0; i < bounds.length; i++) {
+            if (value < bounds[i]) {
+                return i;
+            }
+        }
+        return bounds.length;
+    }
+
+    public static void addInto(long[] target, long[] counts) {
+        for (int i = 0; i < target.length && i < counts.length; i++) {
+            target[i] += counts[i];
+        }
+    }
+
+    // Upper bound of the bucket holding the p-th value; the overflow bucket reports the
+    // final bound. Null when empty.
+    public static Double percentile(double[] bounds, long[] counts, double p) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.ceil(p * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return bounds[Math.min(i, bounds.length - 1)];
+            }
+        }
+        return bounds[bounds.length - 1];
+    }
+}
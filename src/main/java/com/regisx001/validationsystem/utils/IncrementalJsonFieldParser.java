@@ -0,0 +1,184 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+// Push parser for a streamed JSON object. Each call to feed() returns the scalar
+// object members that were completed by that chunk, addressed by their dotted path
+// (e.g. "grammar.score"). Text before the first '{' is ignored, as are scalars inside arrays.
+public class IncrementalJsonFieldParser {
+
+    public record Field(String path, Object value) {
+    }
+
+    private static final class Frame {
+        private final boolean object;
+        private String key;
+        private boolean expectingKey;
+
+        private Frame(boolean object) {
+            this.object = object;
+            this.expectingKey = object;
+        }
+    }
+
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private final StringBuilder token = new StringBuilder();
+    private boolean inString;
+    private boolean stringIsKey;
+    private boolean escape;
+    private int unicodeDigits = -1;
+    private int unicodeValue;
+    private boolean inScalar;
+    private boolean complete;
+
+    public List<Field> feed(CharSequence chunk) {
+        List<Field> fields = new ArrayList<>();
+        for (int i = 0; i < chunk.length(); i++) {
+            accept(chunk.charAt(i), fields);
+        }
+        return fields;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    private void accept(char c, List<Field> fields) {
+        if (complete) {
+            return;
+        }
+
+        if (inString) {
+            acceptStringChar(c, fields);
+            return;
+        }
+
+        if (inScalar) {
+            if (isScalarChar(c)) {
+                token.append(c);
+                return;
+            }
+            inScalar = false;
+            emit(fields, parseScalar(token.toString()));
+            token.setLength(0);
+        }
+
+        if (stack.isEmpty()) {
+            if (c == '{') {
+                stack.push(new Frame(true));
+            }
+            return;
+        }
+
+        Frame top = stack.peek();
+        switch (c) {
+            case '{' -> stack.push(new Frame(true));
+            case '[' -> stack.push(new Frame(false));
+            case '}', ']' -> {
+                stack.pop();
+                complete = stack.isEmpty();
+            }
+            case '"' -> {
+                inString = true;
+                stringIsKey = top.object && top.expectingKey;
+            }
+            case ',' -> top.expectingKey = top.object;
+            case ':' -> {
+            }
+            default -> {
+                if (!Character.isWhitespace(c)) {
+                    inScalar = true;
+                    token.append(c);
+                }
+            }
+        }
+    }
+
+    private void acceptStringChar(char c, List<Field> fields) {
+        if (unicodeDigits >= 0) {
+            unicodeValue = (unicodeValue << 4) + Character.digit(c, 16);
+            if (++unicodeDigits == 4) {
+                token.append((char) unicodeValue);
+                unicodeDigits = -1;
+            }
+            return;
+        }
+
+        if (escape) {
+            escape = false;
+            switch (c) {
+                case 'n' -> token.append('\n');
+                case 't' -> token.append('\t');
+                case 'r' -> token.append('\r');
+                case 'b' -> token.append('\b');
+                case 'f' -> token.append('\f');
+                case 'u' -> {
+                    unicodeDigits = 0;
+                    unicodeValue = 0;
+                }
+                default -> token.append(c);
+            }
+            return;
+        }
+
+        if (c == '\\') {
+            escape = true;
+        } else if (c == '"') {
+            inString = false;
+            Frame top = stack.peek();
+            if (stringIsKey) {
+                top.key = token.toString();
+                top.expectingKey = false;
+            } else {
+                emit(fields, token.toString());
+            }
+            token.setLength(0);
+        } else {
+            token.append(c);
+        }
+    }
+
+    private void emit(List<Field> fields, Object value) {
+        Frame top = stack.peek();
+        if (top == null || !top.object || top.key == null) {
+            return;
+        }
+
+        StringBuilder path = new StringBuilder();
+        Iterator<Frame> frames = stack.descendingIterator();
+        while (frames.hasNext()) {
+            Frame frame = frames.next();
+            if (!frame.object) {
+                return;
+            }
+            if (path.length() > 0) {
+                path.append('.');
+            }
+            path.append(frame.key);
+        }
+        fields.add(new Field(path.toString(), value));
+    }
+
+    private static boolean isScalarChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '.';
+    }
+
+    private static Object parseScalar(String value) {
+        return switch (value) {
+            case "true" -> Boolean.TRUE;
+            case "false" -> Boolean.FALSE;
+            case "null" -> null;
+            default -> {
+                try {
+                    yield Double.parseDouble(value);
+                } catch (NumberFormatException e) {
+                    yield value;
+                }
+            }
+        };
+    }
+}
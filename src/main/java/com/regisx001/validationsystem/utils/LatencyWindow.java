@@ -0,0 +1,40 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.Arrays;
+
+// Fixed-size ring of recent latencies; percentiles are computed on demand by sorting a
+// copy, which is cheap at the window sizes used here
+public final class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    public LatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // Nearest-rank percentile, or -1 when nothing has been recorded
+    public long percentile(double p) {
+        long[] sorted;
+        synchronized (this) {
+            if (size == 0) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,180 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// Pulls the JSON value out of a model reply that may wrap it in prose or markdown fences,
+// dropping trailing commas on the way. A reply cut off mid-value yields up to two repairs to
+// try in order: the text closed where it stops (an open value string is terminated), and the
+// text cut back to its last complete member. A cut inside a number or literal only yields the
+// second, since 0.87 cut to 0 still reads as a valid value. Nothing is validated here; callers parse the
+// candidates and keep the first that reads.
+public final class LenientJsonExtractor {
+
+    private static final class Frame {
+        private final boolean object;
+        private boolean expectingKey;
+
+        private Frame(boolean object) {
+            this.object = object;
+            this.expectingKey = object;
+        }
+
+        private char closer() {
+            return object ? '}' : ']';
+        }
+    }
+
+    private LenientJsonExtractor() {
+    }
+
+    // open is '{' for an object reply, '[' for an array reply
+    public static List<String> candidates(String text, char open) {
+        int start = text.indexOf(open);
+        if (start < 0) {
+            return List.of();
+        }
+
+        StringBuilder out = new StringBuilder(text.length() - start + 8);
+        Deque<Frame> stack = new ArrayDeque<>();
+        boolean inString = false;
+        boolean stringIsKey = false;
+        boolean escape = false;
+        int safeLength = -1;
+        String safeClosers = null;
+
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                out.append(c);
+                if (escape) {
+                    escape = false;
+                } else if (c == '\\') {
+                    escape = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    Frame top = stack.peek();
+                    inString = true;
+                    stringIsKey = top != null && top.object && top.expectingKey;
+                    out.append(c);
+                }
+                case '{', '[' -> {
+                    stack.push(new Frame(c == '{'));
+                    out.append(c);
+                    safeLength = out.length();
+                    safeClosers = closers(stack);
+                }
+                case '}', ']' -> {
+                    if (stack.isEmpty()) {
+                        continue;
+                    }
+                    dropTrailingComma(out);
+                    out.append(stack.pop().closer());
+                    if (stack.isEmpty()) {
+                        return List.of(out.toString());
+                    }
+                    safeLength = out.length();
+                    safeClosers = closers(stack);
+                }
+                case ',' -> {
+                    if (stack.isEmpty()) {
+                        continue;
+                    }
+                    safeLength = out.length();
+                    safeClosers = closers(stack);
+                    out.append(c);
+                    if (stack.peek().object) {
+                        stack.peek().expectingKey = true;
+                    }
+                }
+                case ':' -> {
+                    out.append(c);
+                    if (!stack.isEmpty()) {
+                        stack.peek().expectingKey = false;
+                    }
+                }
+                default -> out.append(c);
+            }
+        }
+
+        // Truncated
+        List<String> candidates = new ArrayList<>(2);
+        String closed = closeTruncated(out, stack, inString, stringIsKey, escape);
+        if (closed != null) {
+            candidates.add(closed);
+        }
+        if (safeLength > 0) {
+            String cut = out.substring(0, safeLength) + safeClosers;
+            if (!cut.equals(closed)) {
+                candidates.add(cut);
+            }
+        }
+        return candidates;
+    }
+
+    private static String closeTruncated(StringBuilder out, Deque<Frame> stack, boolean inString,
+            boolean stringIsKey, boolean escape) {
+        StringBuilder closed = new StringBuilder(out);
+        if (inString) {
+            if (stringIsKey) {
+                return null;
+            }
+            if (escape) {
+                closed.setLength(closed.length() - 1);
+            }
+            closed.append('"');
+        } else {
+            int last = lastNonWhitespace(closed);
+            Frame top = stack.peek();
+            // A member name with no value yet
+            if (top != null && top.object && top.expectingKey && last >= 0 && closed.charAt(last) == '"') {
+                return null;
+            }
+            // A bare scalar may have lost its tail
+            if (last >= 0 && isScalarChar(closed.charAt(last))) {
+                return null;
+            }
+            if (last >= 0 && closed.charAt(last) == ':') {
+                closed.setLength(last + 1);
+                closed.append("null");
+            }
+        }
+        dropTrailingComma(closed);
+        return closed.append(closers(stack)).toString();
+    }
+
+    private static boolean isScalarChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '.' || c == '-' || c == '+';
+    }
+
+    private static void dropTrailingComma(StringBuilder out) {
+        int last = lastNonWhitespace(out);
+        if (last >= 0 && out.charAt(last) == ',') {
+            out.setLength(last);
+        }
+    }
+
+    private static int lastNonWhitespace(CharSequence text) {
+        int i = text.length() - 1;
+        while (i >= 0 && Character.isWhitespace(text.charAt(i))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static String closers(Deque<Frame> stack) {
+        StringBuilder closers = new StringBuilder(stack.size());
+        for (Frame frame : stack) {
+            closers.append(frame.closer());
+        }
+        return closers.toString();
+    }
+}
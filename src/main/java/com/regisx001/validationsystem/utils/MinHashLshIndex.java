@@ -0,0 +1,222 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory near-duplicate index. Documents are reduced to MinHash signatures over
+// word shingles; signatures are split into bands and any document sharing a band
+// bucket with the query is a candidate, whose Jaccard similarity is then estimated
+// from the fraction of equal signature slots. Each document carries a rank (e.g. its creation
+// time), and a query only matches documents ranked below its own: the newer of two near-duplicates
+// is the copy. Text without a single word has no signature and is never indexed or matched.
+public class MinHashLshIndex<K> {
+
+    public record Match<K>(K key, double similarity) {
+    }
+
+    private final int shingleSize;
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    private final Map<K, Entry> entries = new HashMap<>();
+    private final List<Map<Long, Set<K>>> buckets;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MinHashLshIndex(int shingleSize, int bands, int rows) {
+        this.shingleSize = shingleSize;
+        this.bands = bands;
+        this.rows = rows;
+        this.seeds = new long[bands * rows];
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < seeds.length; i++) {
+            seed = mix(seed + i);
+            seeds[i] = seed;
+        }
+        this.buckets = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    // Null when the text has no words; an all-empty signature would match every other empty text
+    public long[] signature(CharSequence text) {
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+
+        // Ring of the last shingleSize word hashes, filled in a single pass over the text
+        long[] window = new long[shingleSize];
+        int wordsSeen = 0;
+        long wordHash = 0xcbf29ce484222325L;
+        boolean inWord = false;
+
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                wordHash = (wordHash ^ Character.toLowerCase(c)) * 0x100000001b3L;
+                inWord = true;
+                continue;
+            }
+            if (!inWord) {
+                continue;
+            }
+
+            window[wordsSeen % shingleSize] = wordHash;
+            wordsSeen++;
+            wordHash = 0xcbf29ce484222325L;
+            inWord = false;
+
+            if (wordsSeen >= shingleSize) {
+                addShingle(signature, shingleHash(window, wordsSeen));
+            }
+        }
+
+        // Texts shorter than one shingle are represented by all their words
+        if (wordsSeen == 0) {
+            return null;
+        }
+        if (wordsSeen < shingleSize) {
+            addShingle(signature, shingleHash(window, wordsSeen));
+        }
+        return signature;
+    }
+
+    // Replaces any earlier version of key; text without words only removes it
+    public void put(K key, long rank, CharSequence text) {
+        long[] signature = signature(text);
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (signature == null) {
+                return;
+            }
+            entries.put(key, new Entry(signature, rank));
+            for (int band = 0; band < bands; band++) {
+                buckets.get(band).computeIfAbsent(bandHash(signature, band), ignored -> new HashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Most similar indexed document ranked below rank, other than exclude; null when no such candidate
+    // shares a band or the text has no words
+    public Match<K> mostSimilar(CharSequence text, long rank, K exclude) {
+        long[] signature = signature(text);
+        if (signature == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            Set<K> candidates = new HashSet<>();
+            for (int band = 0; band < bands; band++) {
+                Set<K> bucket = buckets.get(band).get(bandHash(signature, band));
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+            candidates.remove(exclude);
+
+            Match<K> best = null;
+            for (K candidate : candidates) {
+                Entry entry = entries.get(candidate);
+                if (entry.rank() >= rank) {
+                    continue;
+                }
+                double similarity = estimateJaccard(signature, entry.signature());
+                if (best == null || similarity > best.similarity()) {
+                    best = new Match<>(candidate, similarity);
+                }
+            }
+            return best;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(K key) {
+        Entry previous = entries.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long hash = bandHash(previous.signature(), band);
+            Set<K> bucket = buckets.get(band).get(hash);
+            if (bucket != null && bucket.remove(key) && bucket.isEmpty()) {
+                buckets.get(band).remove(hash);
+            }
+        }
+    }
+
+    private void addShingle(long[] signature, long shingle) {
+        for (int i = 0; i < seeds.length; i++) {
+            long hash = mix(shingle ^ seeds[i]);
+            if (hash < signature[i]) {
+                signature[i] = hash;
+            }
+        }
+    }
+
+    private long shingleHash(long[] window, int wordsSeen) {
+        int count = Math.min(wordsSeen, shingleSize);
+        long hash = 1;
+        // Oldest word first so the shingle hash depends on word order, not ring position
+        for (int i = count; i > 0; i--) {
+            hash = hash * 31 + window[(wordsSeen - i) % shingleSize];
+        }
+        return hash;
+    }
+
+    private long bandHash(long[] signature, int band) {
+        long hash = band;
+        for (int row = 0; row < rows; row++) {
+            hash = hash * 0x100000001b3L + signature[band * rows + row];
+        }
+        return mix(hash);
+    }
+
+    private static double estimateJaccard(long[] left, long[] right) {
+        int equal = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / left.length;
+    }
+
+    private record Entry(long[] signature, long rank) {
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
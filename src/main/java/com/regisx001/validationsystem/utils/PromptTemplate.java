@@ -0,0 +1,62 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// A prompt template parsed once into literal text and {placeholder} segments. Rendering sizes
+// one buffer from the literals and the values and appends each piece once, where chained
+// String.replace calls copy the whole prompt, article content included, for every placeholder.
+public final class PromptTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Za-z][A-Za-z0-9]*)}");
+
+    // literals[i] precedes names[i]; the last literal follows the last placeholder
+    private final String[] literals;
+    private final String[] names;
+    private final int literalLength;
+
+    private PromptTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static PromptTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(last, matcher.start()));
+            names.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(template.substring(last));
+        return new PromptTemplate(literals.toArray(String[]::new), names.toArray(String[]::new));
+    }
+
+    public String render(Map<String, ? extends CharSequence> values) {
+        CharSequence[] resolved = new CharSequence[names.length];
+        int length = literalLength;
+        for (int i = 0; i < names.length; i++) {
+            resolved[i] = values.get(names[i]);
+            if (resolved[i] == null) {
+                throw new IllegalArgumentException("No value for prompt placeholder {" + names[i] + "}");
+            }
+            length += resolved[i].length();
+        }
+
+        StringBuilder prompt = new StringBuilder(length);
+        for (int i = 0; i < names.length; i++) {
+            prompt.append(literals[i]).append(resolved[i]);
+        }
+        return prompt.append(literals[names.length]).toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.regisx001.validationsystem.config.AnalysisExecutorConfig;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ProviderConcurrencyLimiter {
+
+    private final AnalysisExecutorConfig config;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Permits> permitsByModel = new ConcurrentHashMap<>();
+
+    // Callers must close the permit, including for calls that outlive a single method frame (streams)
+    public Permit acquire(String model) {
+        Permits permits = permitsByModel.computeIfAbsent(model, this::createPermits);
+
+        long waitStart = System.nanoTime();
+        permits.waiting.incrementAndGet();
+        try {
+            permits.semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an LLM permit", e);
+        } finally {
+            permits.waiting.decrementAndGet();
+            permits.waitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        }
+
+        permits.active.incrementAndGet();
+        return new Permit(permits);
+    }
+
+    private Permits createPermits(String model) {
+        Permits permits = new Permits(new Semaphore(config.permitsFor(model), true),
+                Timer.builder("analysis.provider.permit.wait").tag("model", model).register(meterRegistry));
+
+        Gauge.builder("analysis.provider.permits.active", permits.active, AtomicInteger::get)
+                .tag("model", model).register(meterRegistry);
+        Gauge.builder("analysis.provider.permits.waiting", permits.waiting, AtomicInteger::get)
+                .tag("model", model).register(meterRegistry);
+        Gauge.builder("analysis.provider.permits.limit", () -> config.permitsFor(model))
+                .tag("model", model).register(meterRegistry);
+        return permits;
+    }
+
+    public static final class Permit implements AutoCloseable {
+        private final Permits permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Permits permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.active.decrementAndGet();
+                permits.semaphore.release();
+            }
+        }
+    }
+
+    private static final class Permits {
+        private final Semaphore semaphore;
+        private final Timer waitTimer;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private Permits(Semaphore semaphore, Timer waitTimer) {
+            this.semaphore = semaphore;
+            this.waitTimer = waitTimer;
+        }
+    }
+}
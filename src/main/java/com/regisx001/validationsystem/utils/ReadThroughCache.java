@@ -0,0 +1,90 @@
+package com.regisx001.validationsystem.utils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Bounded LRU cache with a per-entry TTL that loads misses through the supplied function.
+// Concurrent misses for a key share one load. A load that was running when its key was
+// invalidated still returns to its callers but is not cached, and readers arriving after
+// the invalidation start a fresh load instead of joining it.
+public class ReadThroughCache<K, V> {
+
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+    private final ConcurrentMap<K, Object> loadTokens = new ConcurrentHashMap<>();
+    private final SingleFlight<Object, V> loads = new SingleFlight<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ReadThroughCache(String name, int maxEntries, Duration ttl, MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.hits = Counter.builder("read.cache.lookups").tag("cache", name).tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("read.cache.lookups").tag("cache", name).tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("read.cache.size", this, ReadThroughCache::size).tag("cache", name).register(meterRegistry);
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now - entry.loadedAt() < ttlNanos) {
+                hits.increment();
+                return entry.value();
+            }
+        }
+
+        misses.increment();
+        Object token = loadTokens.computeIfAbsent(key, k -> new Object());
+        return loads.execute(token, () -> {
+            long loadedAt = System.nanoTime();
+            V value;
+            try {
+                value = loader.apply(key);
+            } catch (RuntimeException e) {
+                loadTokens.remove(key, token);
+                throw e;
+            }
+            synchronized (entries) {
+                // Only the current token may publish; invalidate() removes it
+                if (loadTokens.remove(key, token)) {
+                    entries.put(key, new Entry<>(value, loadedAt));
+                }
+            }
+            return value;
+        });
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            loadTokens.remove(key);
+            entries.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.regisx001.validationsystem.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+// Runs at most one computation per key at a time. Callers arriving while a computation
+// for their key is running wait for it and share its outcome instead of starting their own.
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = computation.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    // For computations that finish asynchronously, such as a stream. The first caller for a key owns the
+    // flight and must end it exactly once; everyone else gets the owner's future to wait on.
+    public Flight<V> begin(K key) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        return existing != null ? new Flight<>(existing, false) : new Flight<>(created, true);
+    }
+
+    // Settles a flight started with begin; a failure is passed on to every caller waiting on it
+    public void end(K key, Flight<V> flight, V value, Throwable failure) {
+        inFlight.remove(key, flight.result());
+        if (failure != null) {
+            flight.result().completeExceptionally(failure);
+        } else {
+            flight.result().complete(value);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public record Flight<V>(CompletableFuture<V> result, boolean owner) {
+    }
+}
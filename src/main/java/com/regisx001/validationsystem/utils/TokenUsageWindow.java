@@ -0,0 +1,36 @@
+package com.regisx001.validationsystem.utils;
+
+import java.time.Duration;
+
+// Token counts in per-minute buckets over the last day, so hourly and daily totals roll
+// forward without keeping individual calls
+public final class TokenUsageWindow {
+
+    private static final int MINUTES = 24 * 60;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final long[] tokens = new long[MINUTES];
+    private final long[] minutes = new long[MINUTES];
+
+    public synchronized void record(long count, long nowMillis) {
+        long minute = nowMillis / MILLIS_PER_MINUTE;
+        int slot = (int) (minute % MINUTES);
+        if (minutes[slot] != minute) {
+            minutes[slot] = minute;
+            tokens[slot] = 0;
+        }
+        tokens[slot] += count;
+    }
+
+    public synchronized long sum(Duration window, long nowMillis) {
+        long current = nowMillis / MILLIS_PER_MINUTE;
+        long span = Math.min(MINUTES, Math.max(1, window.toMinutes()));
+        long total = 0;
+        for (int i = 0; i < MINUTES; i++) {
+            if (current - minutes[i] < span && minutes[i] <= current) {
+                total += tokens[i];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,122 @@
+-- Baseline of the schema previously generated by ddl-auto: update. Every statement is
+-- idempotent so the migration also applies cleanly to databases created that way.
+
+CREATE TABLE IF NOT EXISTS articles (
+    id                UUID PRIMARY KEY,
+    title             VARCHAR(255)     NOT NULL,
+    content           TEXT             NOT NULL,
+    featured_image    VARCHAR(500),
+    status            VARCHAR(255)     NOT NULL,
+    is_published      BOOLEAN          NOT NULL,
+    published_at      TIMESTAMP(6),
+    feedback          VARCHAR(255),
+    created_at        TIMESTAMP(6)     NOT NULL,
+    updated_at        TIMESTAMP(6)     NOT NULL,
+    rejected_at       TIMESTAMP(6),
+    rejected_by       VARCHAR(255),
+    approved_at       TIMESTAMP(6),
+    approved_by       VARCHAR(255),
+    word_count        INTEGER,
+    sentence_count    INTEGER,
+    readability_score DOUBLE PRECISION,
+    longest_char_run  INTEGER,
+    uppercase_ratio   DOUBLE PRECISION,
+    link_count        INTEGER,
+    banned_term_hits  INTEGER,
+    spam_score        DOUBLE PRECISION,
+    prescreen_verdict VARCHAR(255),
+    prescreen_reason  TEXT,
+    screened_at       TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_articles_created_id ON articles (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_articles_published_id ON articles (is_published, published_at, id);
+
+CREATE TABLE IF NOT EXISTS analyse_results (
+    id                 UUID PRIMARY KEY,
+    article_id         UUID             NOT NULL REFERENCES articles (id),
+    decision           VARCHAR(255)     NOT NULL,
+    confidence_score   DOUBLE PRECISION NOT NULL,
+    ai_analysis        TEXT,
+    recommendations    TEXT,
+    readability_score  DOUBLE PRECISION,
+    grammar_score      DOUBLE PRECISION,
+    seo_score          DOUBLE PRECISION,
+    originality_score  DOUBLE PRECISION,
+    analyzed_at        TIMESTAMP(6)     NOT NULL,
+    ai_model           VARCHAR(255)     NOT NULL,
+    processing_time_ms INTEGER
+);
+
+CREATE INDEX IF NOT EXISTS idx_analyse_results_article_analyzed ON analyse_results (article_id, analyzed_at);
+
+CREATE TABLE IF NOT EXISTS analyse_histories (
+    id                 UUID PRIMARY KEY,
+    article_id         UUID             NOT NULL REFERENCES articles (id),
+    from_status        VARCHAR(255),
+    to_status          VARCHAR(255),
+    performed_by       VARCHAR(255)     NOT NULL,
+    reason             TEXT,
+    notes              TEXT,
+    metadata           TEXT,
+    confidence_score   DOUBLE PRECISION,
+    ai_model           VARCHAR(255),
+    processing_time_ms INTEGER,
+    created_at         TIMESTAMP(6)     NOT NULL,
+    updated_at         TIMESTAMP(6)     NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS analysis_cache (
+    fingerprint    VARCHAR(64) PRIMARY KEY,
+    ai_model       VARCHAR(255) NOT NULL,
+    prompt_version VARCHAR(255) NOT NULL,
+    response_json  TEXT         NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS analysis_jobs (
+    id           UUID PRIMARY KEY,
+    article_id   UUID         NOT NULL,
+    status       VARCHAR(255) NOT NULL,
+    attempts     INTEGER      NOT NULL,
+    available_at TIMESTAMP(6) NOT NULL,
+    locked_by    VARCHAR(255),
+    locked_until TIMESTAMP(6),
+    last_error   TEXT,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_analysis_jobs_claim ON analysis_jobs (status, available_at);
+CREATE INDEX IF NOT EXISTS idx_analysis_jobs_article ON analysis_jobs (article_id);
+
+CREATE TABLE IF NOT EXISTS chunk_analyses (
+    id                    UUID PRIMARY KEY,
+    chunk_hash            VARCHAR(64)      NOT NULL,
+    ai_model              VARCHAR(255)     NOT NULL,
+    prompt_version        VARCHAR(255)     NOT NULL,
+    token_count           INTEGER          NOT NULL,
+    overall_score         DOUBLE PRECISION NOT NULL,
+    recommendation        VARCHAR(255),
+    content_quality_score DOUBLE PRECISION,
+    grammar_score         DOUBLE PRECISION,
+    appropriateness_score DOUBLE PRECISION,
+    seo_score             DOUBLE PRECISION,
+    feedback              TEXT,
+    recommendations       TEXT,
+    analyzed_at           TIMESTAMP(6)     NOT NULL,
+    CONSTRAINT uk_chunk_analyses_hash_model_version UNIQUE (chunk_hash, ai_model, prompt_version)
+);
+
+CREATE TABLE IF NOT EXISTS analysis_stats_hourly (
+    bucket_start      TIMESTAMP(6) PRIMARY KEY,
+    analyses          BIGINT           NOT NULL,
+    approved          BIGINT           NOT NULL,
+    rejected          BIGINT           NOT NULL,
+    manual_review     BIGINT           NOT NULL,
+    needs_revision    BIGINT           NOT NULL,
+    confidence_sum    DOUBLE PRECISION NOT NULL,
+    latency_sum_ms    BIGINT           NOT NULL,
+    latency_histogram BIGINT[]         NOT NULL,
+    updated_at        TIMESTAMP(6)     NOT NULL
+);
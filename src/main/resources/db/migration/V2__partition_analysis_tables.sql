@@ -0,0 +1,98 @@
+-- Range-partition analyse_results by analyzed_at and analyse_histories by created_at, one
+-- partition per month, so retention can drop whole partitions instead of deleting rows.
+-- Postgres requires the partition key in the primary key; ids are still unique UUIDs.
+-- Monthly partitions are created from the oldest existing row to three months ahead;
+-- PartitionMaintenanceServiceImpl keeps creating them after that. The default partitions
+-- only catch rows outside every monthly range.
+
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent TEXT, from_month DATE, to_month DATE)
+RETURNS VOID AS $$
+DECLARE
+    month DATE := date_trunc('month', from_month);
+BEGIN
+    WHILE month <= to_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                parent || '_p' || to_char(month, 'YYYYMM'), parent, month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- analyse_results
+
+ALTER TABLE analyse_results RENAME TO analyse_results_unpartitioned;
+
+CREATE TABLE analyse_results (
+    id                 UUID             NOT NULL,
+    article_id         UUID             NOT NULL,
+    decision           VARCHAR(255)     NOT NULL,
+    confidence_score   DOUBLE PRECISION NOT NULL,
+    ai_analysis        TEXT,
+    recommendations    TEXT,
+    readability_score  DOUBLE PRECISION,
+    grammar_score      DOUBLE PRECISION,
+    seo_score          DOUBLE PRECISION,
+    originality_score  DOUBLE PRECISION,
+    analyzed_at        TIMESTAMP(6)     NOT NULL,
+    ai_model           VARCHAR(255)     NOT NULL,
+    processing_time_ms INTEGER,
+    CONSTRAINT pk_analyse_results PRIMARY KEY (id, analyzed_at),
+    CONSTRAINT fk_analyse_results_article FOREIGN KEY (article_id) REFERENCES articles (id)
+) PARTITION BY RANGE (analyzed_at);
+
+CREATE TABLE analyse_results_default PARTITION OF analyse_results DEFAULT;
+
+SELECT create_monthly_partitions('analyse_results',
+        COALESCE((SELECT MIN(analyzed_at) FROM analyse_results_unpartitioned), now())::DATE,
+        (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO analyse_results (id, article_id, decision, confidence_score, ai_analysis, recommendations,
+        readability_score, grammar_score, seo_score, originality_score, analyzed_at, ai_model, processing_time_ms)
+SELECT id, article_id, decision, confidence_score, ai_analysis, recommendations,
+        readability_score, grammar_score, seo_score, originality_score, analyzed_at, ai_model, processing_time_ms
+FROM analyse_results_unpartitioned;
+
+DROP TABLE analyse_results_unpartitioned;
+
+-- Latest result per article, and the list-view join, are answered from the index alone
+CREATE INDEX idx_analyse_results_article_analyzed
+    ON analyse_results (article_id, analyzed_at DESC) INCLUDE (decision, confidence_score);
+
+-- analyse_histories
+
+ALTER TABLE analyse_histories RENAME TO analyse_histories_unpartitioned;
+
+CREATE TABLE analyse_histories (
+    id                 UUID             NOT NULL,
+    article_id         UUID             NOT NULL,
+    from_status        VARCHAR(255),
+    to_status          VARCHAR(255),
+    performed_by       VARCHAR(255)     NOT NULL,
+    reason             TEXT,
+    notes              TEXT,
+    metadata           TEXT,
+    confidence_score   DOUBLE PRECISION,
+    ai_model           VARCHAR(255),
+    processing_time_ms INTEGER,
+    created_at         TIMESTAMP(6)     NOT NULL,
+    updated_at         TIMESTAMP(6)     NOT NULL,
+    CONSTRAINT pk_analyse_histories PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_analyse_histories_article FOREIGN KEY (article_id) REFERENCES articles (id)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE analyse_histories_default PARTITION OF analyse_histories DEFAULT;
+
+SELECT create_monthly_partitions('analyse_histories',
+        COALESCE((SELECT MIN(created_at) FROM analyse_histories_unpartitioned), now())::DATE,
+        (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO analyse_histories (id, article_id, from_status, to_status, performed_by, reason, notes, metadata,
+        confidence_score, ai_model, processing_time_ms, created_at, updated_at)
+SELECT id, article_id, from_status, to_status, performed_by, reason, notes, metadata,
+        confidence_score, ai_model, processing_time_ms, created_at, updated_at
+FROM analyse_histories_unpartitioned;
+
+DROP TABLE analyse_histories_unpartitioned;
+
+-- findByArticle_IdOrderByCreatedAtDesc
+CREATE INDEX idx_analyse_histories_article_created ON analyse_histories (article_id, created_at DESC);
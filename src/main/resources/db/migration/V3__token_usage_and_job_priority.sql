@@ -0,0 +1,11 @@
+-- Provider-reported token usage per analysis; NULL for rows written before it was recorded.
+-- Columns added to the partitioned parents propagate to every partition.
+
+ALTER TABLE analyse_results ADD COLUMN IF NOT EXISTS prompt_tokens INTEGER;
+ALTER TABLE analyse_results ADD COLUMN IF NOT EXISTS completion_tokens INTEGER;
+
+ALTER TABLE analyse_histories ADD COLUMN IF NOT EXISTS prompt_tokens INTEGER;
+ALTER TABLE analyse_histories ADD COLUMN IF NOT EXISTS completion_tokens INTEGER;
+
+-- LOW jobs are deferred while a token budget is nearly spent
+ALTER TABLE analysis_jobs ADD COLUMN IF NOT EXISTS priority VARCHAR(255) NOT NULL DEFAULT 'NORMAL';
@@ -0,0 +1,3 @@
+-- AI feedback is copied onto the article and routinely runs past 255 characters.
+
+ALTER TABLE articles ALTER COLUMN feedback TYPE TEXT;
@@ -0,0 +1,15 @@
+-- At most one PENDING or RUNNING job per article. Submits used to check for one and then insert,
+-- so concurrent submits could queue duplicates; keep the running job, else the oldest pending one.
+
+DELETE FROM analysis_jobs j
+WHERE j.status IN ('PENDING', 'RUNNING')
+  AND EXISTS (
+      SELECT 1 FROM analysis_jobs o
+      WHERE o.article_id = j.article_id
+        AND o.id <> j.id
+        AND o.status IN ('PENDING', 'RUNNING')
+        AND (o.status = 'RUNNING' AND j.status = 'PENDING'
+             OR o.status = j.status AND (o.created_at, o.id) < (j.created_at, j.id)));
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_analysis_jobs_active_article
+    ON analysis_jobs (article_id) WHERE status IN ('PENDING', 'RUNNING');
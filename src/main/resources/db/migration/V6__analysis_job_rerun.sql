@@ -0,0 +1,2 @@
+-- Set when the article is edited while its job is RUNNING, so the job runs again on the new text
+ALTER TABLE analysis_jobs ADD COLUMN IF NOT EXISTS rerun BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,7 @@
+-- The status an article had before the AI claimed it, and when the claim was taken. A failed or crashed
+-- analysis hands the article back in that status; a claim older than the visibility timeout is stale.
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS review_from_status VARCHAR(255);
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS review_claimed_at TIMESTAMP(6);
+
+-- Rows already stuck under review lost their previous status; they go back to the approval queue
+UPDATE articles SET review_from_status = 'SUBMITTED_FOR_APPROVAL' WHERE status = 'UNDER_AI_REVIEW';
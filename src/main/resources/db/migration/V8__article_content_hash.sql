@@ -0,0 +1,4 @@
+-- Fingerprint of the content the signals columns describe. An analysis only writes the signals it computed
+-- when the content it read is still current; NULL means the content has not been edited since this column
+-- was added.
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
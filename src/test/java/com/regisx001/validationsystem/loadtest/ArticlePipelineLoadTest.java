@@ -0,0 +1,328 @@
+package com.regisx001.validationsystem.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Pushes create -> queued analysis -> read traffic through the HTTP API, with the LLM replaced by
+// StubChatModel and Postgres by an in-memory H2, and reports throughput, latency percentiles and
+// how saturated the job queue, provider permits and connection pool were. Creating an article
+// queues its analysis; the queue workers claim and analyse it as they would in production, and
+// each pipeline waits for its job to finish before reading the results.
+//
+// Excluded from the normal build; run with: mvn -Ploadtest test
+// Tune with -Dloadtest.users=64 -Dloadtest.duration=PT2M -Dloadtest.warmup=PT15S and the
+// loadtest.stub.* properties (see application-loadtest.yaml). The production tokens-per-minute
+// limit stays in force and holds analyses well below one per second; lift it with
+// -Dapp.analysis.resilience.rate-limit.tokens-per-minute=100000000 to measure the pipeline itself.
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(LoadTestConfiguration.class)
+@ActiveProfiles("loadtest")
+class ArticlePipelineLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 32);
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private static final int MIN_WORDS = Integer.getInteger("loadtest.minWords", 80);
+    private static final int MAX_WORDS = Integer.getInteger("loadtest.maxWords", 2500);
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(250);
+    private static final Duration JOB_POLL_INTERVAL = Duration.ofMillis(50);
+    private static final Duration JOB_TIMEOUT = Duration.ofMinutes(5);
+
+    // ANALYSIS is the time from the create response until the article's job is COMPLETED or FAILED
+    private enum Operation {
+        CREATE, ANALYSIS, GET_ARTICLE, GET_REVIEW, GET_HISTORY
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<String, Sampler> samplers = new TreeMap<>();
+    private final AtomicLong pipelines = new AtomicLong();
+    private volatile boolean measuring;
+
+    @Test
+    void sustainedPipelineLoad() throws Exception {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder());
+        }
+        registerSamplers();
+
+        long start = System.nanoTime();
+        long measureFrom = start + WARMUP.toNanos();
+        long end = measureFrom + DURATION.toNanos();
+
+        ScheduledExecutorService sampling = Executors.newSingleThreadScheduledExecutor();
+        sampling.scheduleAtFixedRate(() -> {
+            measuring = System.nanoTime() >= measureFrom;
+            if (measuring) {
+                samplers.values().forEach(Sampler::sample);
+            }
+        }, 0, SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < USERS; user++) {
+                Random random = new Random(user);
+                users.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        runPipeline(random);
+                    }
+                });
+            }
+        } finally {
+            sampling.shutdownNow();
+        }
+
+        String report = report();
+        System.out.println(report);
+        Files.writeString(Path.of("target", "loadtest-report.txt"), report);
+
+        assertThat(pipelines.get()).as("completed pipelines").isPositive();
+    }
+
+    private void runPipeline(Random random) {
+        String title = "Load test article " + Long.toHexString(random.nextLong());
+        String body = objectMapper.createObjectNode()
+                .put("title", title)
+                .put("content", LoadTestArticles.content(MIN_WORDS + random.nextInt(MAX_WORDS - MIN_WORDS + 1),
+                        random))
+                .toString();
+
+        HttpResponse<String> created = send(Operation.CREATE, HttpRequest.newBuilder(uri("/api/articles"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (created == null || created.statusCode() >= 300) {
+            return;
+        }
+        String id = readId(created.body());
+
+        if (!awaitAnalysis(UUID.fromString(id))) {
+            return;
+        }
+        send(Operation.GET_ARTICLE, HttpRequest.newBuilder(uri("/api/articles/" + id)).GET());
+        send(Operation.GET_REVIEW, HttpRequest.newBuilder(uri("/api/articles/" + id + "/review")).GET());
+        send(Operation.GET_HISTORY, HttpRequest.newBuilder(uri("/api/articles/" + id + "/history")).GET());
+        if (measuring) {
+            pipelines.incrementAndGet();
+        }
+    }
+
+    private HttpResponse<String> send(Operation operation, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request.timeout(Duration.ofMinutes(2)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (measuring) {
+                recorders.get(operation).record(System.nanoTime() - start, String.valueOf(response.statusCode()));
+            }
+            return response;
+        } catch (IOException e) {
+            if (measuring) {
+                recorders.get(operation).record(System.nanoTime() - start, e.getClass().getSimpleName());
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    // Polls the article's analysis job until a worker has finished it; false on timeout or interrupt
+    private boolean awaitAnalysis(UUID articleId) {
+        long start = System.nanoTime();
+        long deadline = start + JOB_TIMEOUT.toNanos();
+        String status = null;
+        try {
+            while (System.nanoTime() < deadline) {
+                status = jobStatus(articleId);
+                if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+                    break;
+                }
+                Thread.sleep(JOB_POLL_INTERVAL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        boolean finished = "COMPLETED".equals(status) || "FAILED".equals(status);
+        if (measuring) {
+            recorders.get(Operation.ANALYSIS).record(System.nanoTime() - start, finished ? status : "timeout");
+        }
+        return finished;
+    }
+
+    private String jobStatus(UUID articleId) {
+        List<String> statuses = jdbcTemplate.queryForList(
+                "SELECT status FROM analysis_jobs WHERE article_id = ? ORDER BY created_at DESC", String.class,
+                articleId);
+        return statuses.isEmpty() ? null : statuses.get(0);
+    }
+
+    private String readId(String json) {
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            return node.get("id").asText();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected create response: " + json, e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void registerSamplers() {
+        if (taskExecutor instanceof ThreadPoolTaskExecutor pool) {
+            samplers.put("async pool active threads", new Sampler(() -> pool.getActiveCount()));
+            samplers.put("async pool queued tasks", new Sampler(() -> pool.getQueueSize()));
+        }
+        samplers.put("queued analysis jobs", new Sampler(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM analysis_jobs WHERE status = 'PENDING'", Long.class)));
+        samplers.put("running analysis jobs", new Sampler(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM analysis_jobs WHERE status = 'RUNNING'", Long.class)));
+        gauge("analysis.provider.permits.active", "provider permits in use");
+        gauge("analysis.provider.permits.waiting", "callers waiting for a permit");
+        gauge("hikaricp.connections.active", "db connections in use");
+        gauge("hikaricp.connections.pending", "threads waiting for a db connection");
+        gauge("analysis.provider.circuit.state", "circuit state (0 closed, 1 open, 2 half-open)");
+        gauge("jvm.threads.live", "live platform threads");
+    }
+
+    private void gauge(String name, String label) {
+        samplers.put(label, new Sampler(() -> meterRegistry.find(name).gauges().stream()
+                .mapToDouble(Gauge::value).filter(Double::isFinite).sum()));
+    }
+
+    private String report() {
+        double seconds = DURATION.toNanos() / 1e9;
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "%nLoad test: %d users, %ds measured after %ds warm-up%n", USERS, DURATION.toSeconds(),
+                WARMUP.toSeconds()));
+        report.append(String.format(Locale.ROOT, "Pipelines completed: %d (%.1f/s)%n%n", pipelines.get(),
+                pipelines.get() / seconds));
+
+        report.append(String.format(Locale.ROOT, "%-12s %8s %8s %9s %9s %9s %9s  %s%n", "operation", "count",
+                "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "outcomes"));
+        recorders.forEach((operation, recorder) -> {
+            long[] latencies = recorder.sorted();
+            report.append(String.format(Locale.ROOT, "%-12s %8d %8.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    operation, latencies.length, latencies.length / seconds, millis(latencies, 0.50),
+                    millis(latencies, 0.90), millis(latencies, 0.99), millis(latencies, 1.0),
+                    new TreeMap<>(recorder.outcomes)));
+        });
+
+        report.append(String.format(Locale.ROOT, "%n%-46s %8s %8s%n", "saturation", "mean", "max"));
+        samplers.forEach((label, sampler) -> report.append(String.format(Locale.ROOT, "%-46s %8.1f %8.1f%n",
+                label, sampler.mean(), sampler.max)));
+        return report.toString();
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static final class Recorder {
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<String, AtomicLong> outcomes = new ConcurrentHashMap<>();
+
+        void record(long nanos, String outcome) {
+            synchronized (latencies) {
+                latencies.add(nanos);
+            }
+            outcomes.computeIfAbsent(outcome, key -> new AtomicLong()).incrementAndGet();
+        }
+
+        long[] sorted() {
+            long[] values;
+            synchronized (latencies) {
+                values = latencies.stream().mapToLong(Long::longValue).toArray();
+            }
+            Arrays.sort(values);
+            return values;
+        }
+    }
+
+    private static final class Sampler {
+        private final DoubleSupplier reading;
+        private double sum;
+        private long samples;
+        private double max;
+
+        Sampler(DoubleSupplier reading) {
+            this.reading = reading;
+        }
+
+        synchronized void sample() {
+            double value = reading.getAsDouble();
+            sum += value;
+            samples++;
+            max = Math.max(max, value);
+        }
+
+        synchronized double mean() {
+            return samples == 0 ? 0 : sum / samples;
+        }
+    }
+}
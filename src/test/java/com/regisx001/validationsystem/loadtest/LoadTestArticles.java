@@ -0,0 +1,47 @@
+package com.regisx001.validationsystem.loadtest;
+
+import java.util.Random;
+
+// Random prose from pronounceable pseudo-words: unique per article, so the analysis cache and the
+// near-duplicate check treat every generated article as new content
+final class LoadTestArticles {
+
+    private static final String[] ONSETS = { "b", "c", "d", "f", "g", "l", "m", "n", "p", "r", "s", "t", "v", "st",
+            "tr", "pl", "gr", "ch" };
+    private static final String[] VOWELS = { "a", "e", "i", "o", "u", "ai", "ea", "ou" };
+    private static final String[] CODAS = { "", "", "n", "r", "s", "t", "nd", "ck", "ll" };
+
+    private LoadTestArticles() {
+    }
+
+    static String content(int words, Random random) {
+        StringBuilder text = new StringBuilder(words * 7);
+        int sentenceLeft = 8 + random.nextInt(17);
+        boolean sentenceStart = true;
+        for (int i = 0; i < words; i++) {
+            String word = word(random);
+            if (sentenceStart) {
+                word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+            }
+            text.append(word);
+
+            sentenceStart = --sentenceLeft == 0 || i == words - 1;
+            if (sentenceStart) {
+                text.append(random.nextInt(5) == 0 ? ".\n\n" : ". ");
+                sentenceLeft = 8 + random.nextInt(17);
+            } else {
+                text.append(' ');
+            }
+        }
+        return text.toString().strip();
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 1 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(ONSETS[random.nextInt(ONSETS.length)]).append(VOWELS[random.nextInt(VOWELS.length)]);
+        }
+        return word.append(CODAS[random.nextInt(CODAS.length)]).toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.regisx001.validationsystem.loadtest;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+@EnableConfigurationProperties(StubChatModelProperties.class)
+public class LoadTestConfiguration {
+
+    // The OpenAI chat model is switched off in the loadtest profile (spring.ai.model.chat: none)
+    @Bean
+    StubChatModel stubChatModel(StubChatModelProperties properties) {
+        return new StubChatModel(properties);
+    }
+}
@@ -0,0 +1,173 @@
+package com.regisx001.validationsystem.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import reactor.core.publisher.Flux;
+
+// Stands in for the LLM provider: answers analysis prompts with replies shaped like the real ones,
+// after a random latency, and fails or returns garbage at the configured rates
+public class StubChatModel implements ChatModel {
+
+    private static final Pattern BATCH_PROMPT = Pattern.compile("Articles to analyze: (\\d+)");
+    private static final int STREAM_CHUNK_CHARS = 40;
+
+    private final StubChatModelProperties properties;
+    private final List<String> replies;
+    private final AtomicLong sequence;
+
+    public StubChatModel(StubChatModelProperties properties) {
+        this.properties = properties;
+        this.replies = loadReplies(properties.getReplayDirectory());
+        this.sequence = new AtomicLong(properties.getSeed());
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        Random random = new Random(sequence.getAndIncrement());
+        sleep(latency(random));
+        String reply = reply(prompt.getContents(), random);
+        return response(reply, usage(prompt, reply));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        Random random = new Random(sequence.getAndIncrement());
+        Duration latency = latency(random);
+        String reply;
+        try {
+            reply = reply(prompt.getContents(), random);
+        } catch (RuntimeException e) {
+            return Flux.<ChatResponse>error(e).delaySubscription(latency);
+        }
+
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < reply.length(); i += STREAM_CHUNK_CHARS) {
+            chunks.add(reply.substring(i, Math.min(reply.length(), i + STREAM_CHUNK_CHARS)));
+        }
+        // Like OpenAI with stream usage enabled, the totals arrive on a final empty chunk
+        return Flux.fromIterable(chunks)
+                .delayElements(latency.dividedBy(Math.max(1, chunks.size())))
+                .map(chunk -> response(chunk, null))
+                .concatWith(Flux.just(response("", usage(prompt, reply))));
+    }
+
+    private String reply(String prompt, Random random) {
+        double roll = random.nextDouble();
+        if (roll < properties.getErrorRate()) {
+            throw new IllegalStateException("Stub provider error");
+        }
+        roll -= properties.getErrorRate();
+        if (roll < properties.getThrottleRate()) {
+            throw new IllegalStateException("429 - rate_limit_exceeded (stub)");
+        }
+        roll -= properties.getThrottleRate();
+        boolean malformed = roll < properties.getMalformedRate();
+
+        Matcher batch = BATCH_PROMPT.matcher(prompt);
+        String reply;
+        if (batch.find()) {
+            int count = Integer.parseInt(batch.group(1));
+            List<String> entries = new ArrayList<>(count);
+            for (int i = 1; i <= count; i++) {
+                entries.add(analysis(random, i));
+            }
+            reply = "[" + String.join(",", entries) + "]";
+        } else {
+            reply = replies.isEmpty() ? analysis(random, 0) : replies.get(random.nextInt(replies.size()));
+        }
+        return malformed ? malform(reply, random) : reply;
+    }
+
+    private static String analysis(Random random, int articleIndex) {
+        double overall = clamp(0.6 + random.nextGaussian() * 0.2);
+        String recommendation = overall >= 0.8 ? "APPROVED" : overall <= 0.3 ? "REJECTED" : "NEEDS_REVISION";
+        return String.format(Locale.ROOT, """
+                {%s"overallScore": %.2f, "recommendation": "%s",
+                 "feedback": "Generated by the load-test stub.",
+                 "contentQuality": {"score": %.2f, "feedback": "Reasonably structured."},
+                 "grammar": {"score": %.2f, "issues": ["Minor punctuation issues"], "feedback": "Mostly clean."},
+                 "appropriateness": {"score": %.2f, "feedback": "Suitable for a general audience."},
+                 "seo": {"score": %.2f, "suggestions": ["Add more relevant keywords"]},
+                 "flaggedIssues": [], "recommendations": ["Consider adding more examples"], "estimatedReadTime": %d}""",
+                articleIndex > 0 ? "\"articleIndex\": " + articleIndex + ", " : "", overall, recommendation,
+                clamp(overall + random.nextGaussian() * 0.1), clamp(overall + random.nextGaussian() * 0.1),
+                clamp(0.9 + random.nextGaussian() * 0.05), clamp(overall + random.nextGaussian() * 0.1),
+                1 + random.nextInt(12));
+    }
+
+    // The ways real models break the format: chatty preamble, markdown fences, truncation
+    private static String malform(String reply, Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> "Sure! Here is my analysis of the article:\n" + reply;
+            case 1 -> "```json\n" + reply + "\n```";
+            default -> reply.substring(0, reply.length() / 2);
+        };
+    }
+
+    private Duration latency(Random random) {
+        double millis = properties.getMedianLatency().toMillis()
+                * Math.exp(properties.getLatencySigma() * random.nextGaussian());
+        return Duration.ofMillis(Math.min((long) millis, properties.getMaxLatency().toMillis()));
+    }
+
+    private ChatResponse response(String text, Usage usage) {
+        ChatResponseMetadata metadata = usage != null ? ChatResponseMetadata.builder().usage(usage).build()
+                : new ChatResponseMetadata();
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))), metadata);
+    }
+
+    // Roughly four characters per token, as the real tokenizers average for English
+    private static Usage usage(Prompt prompt, String reply) {
+        return new DefaultUsage(Math.max(1, prompt.getContents().length() / 4), Math.max(1, reply.length() / 4));
+    }
+
+    private static double clamp(double score) {
+        return Math.max(0.0, Math.min(1.0, score));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating provider latency", e);
+        }
+    }
+
+    private static List<String> loadReplies(String directory) {
+        if (directory == null || directory.isBlank()) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(Path.of(directory))) {
+            List<String> replies = new ArrayList<>();
+            for (Path file : files.filter(path -> path.toString().endsWith(".json")).sorted().toList()) {
+                replies.add(Files.readString(file));
+            }
+            return replies;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read replayed replies from " + directory, e);
+        }
+    }
+}
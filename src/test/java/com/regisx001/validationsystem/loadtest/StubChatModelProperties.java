@@ -0,0 +1,26 @@
+package com.regisx001.validationsystem.loadtest;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "loadtest.stub")
+public class StubChatModelProperties {
+    // Latency is log-normal: median * exp(sigma * N(0, 1)), capped at maxLatency
+    private Duration medianLatency = Duration.ofMillis(1500);
+    private double latencySigma = 0.5;
+    private Duration maxLatency = Duration.ofSeconds(30);
+
+    // Fractions of calls that fail with a provider error, fail as throttled (429), or return unparseable output
+    private double errorRate = 0.01;
+    private double throttleRate = 0.0;
+    private double malformedRate = 0.02;
+
+    // Directory of recorded single-article replies (*.json) to replay instead of generated ones
+    private String replayDirectory;
+
+    private long seed = 42;
+}
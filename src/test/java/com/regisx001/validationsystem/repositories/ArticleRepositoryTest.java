@@ -0,0 +1,91 @@
+package com.regisx001.validationsystem.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.regisx001.validationsystem.domain.dtos.ArticleSummary;
+import com.regisx001.validationsystem.domain.entities.AnalyseResult;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ArticleRepositoryTest {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private AnalyseResultRepository analyseResultRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM analyse_results");
+        jdbcTemplate.update("DELETE FROM articles");
+    }
+
+    // Two results written in the same instant must not list the article twice
+    @Test
+    void summariesHaveOneRowPerArticleWhenResultsTie() {
+        Article article = articleRepository.save(Article.builder().title("Title").content("Content").build());
+        Article unanalysed = articleRepository.save(Article.builder().title("Other").content("Text").build());
+        AnalyseResult first = analyseResultRepository.save(result(article, AnalyseDecision.APPROVED));
+        AnalyseResult second = analyseResultRepository.save(result(article, AnalyseDecision.REJECTED));
+        LocalDateTime analyzedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        jdbcTemplate.update("UPDATE analyse_results SET analyzed_at = ?", analyzedAt);
+
+        List<ArticleSummary> summaries = articleRepository.findAllSummaries(PageRequest.of(0, 10)).getContent();
+        List<ArticleSummary> byId = articleRepository.findSummariesByIdIn(List.of(article.getId()));
+
+        UUID winner = first.getId().compareTo(second.getId()) > 0 ? first.getId() : second.getId();
+        AnalyseDecision expected = winner.equals(first.getId()) ? first.getDecision() : second.getDecision();
+        assertThat(summaries).extracting(ArticleSummary::getId)
+                .containsExactlyInAnyOrder(article.getId(), unanalysed.getId());
+        assertThat(byId).singleElement().satisfies(summary -> {
+            assertThat(summary.getLatestAnalyzedAt()).isEqualTo(analyzedAt);
+            assertThat(summary.getLatestDecision()).isEqualTo(expected);
+        });
+    }
+
+    @Test
+    void summariesJoinTheLatestResult() {
+        Article article = articleRepository.save(Article.builder().title("Title").content("Content").build());
+        AnalyseResult older = analyseResultRepository.save(result(article, AnalyseDecision.REJECTED));
+        analyseResultRepository.save(result(article, AnalyseDecision.APPROVED));
+        jdbcTemplate.update("UPDATE analyse_results SET analyzed_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(1), older.getId());
+
+        assertThat(articleRepository.findSummariesByIdIn(List.of(article.getId())))
+                .singleElement()
+                .extracting(ArticleSummary::getLatestDecision)
+                .isEqualTo(AnalyseDecision.APPROVED);
+    }
+
+    private static AnalyseResult result(Article article, AnalyseDecision decision) {
+        return AnalyseResult.builder()
+                .article(article)
+                .decision(decision)
+                .confidenceScore(0.9)
+                .aiModel("test-model")
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.regisx001.validationsystem.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.regisx001.validationsystem.config.AiConfig;
+import com.regisx001.validationsystem.config.AnalysisBatchConfig;
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+import com.regisx001.validationsystem.domain.dtos.TokenUsage;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.AnalysisResponseService;
+import com.regisx001.validationsystem.utils.AnalysisMetrics;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AnalysisBatchServiceImplTest {
+
+    private final AIChatService aiChatService = mock(AIChatService.class);
+    private final AnalysisResponseService responses = mock(AnalysisResponseService.class);
+    private AnalysisBatchServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        AnalysisBatchConfig config = new AnalysisBatchConfig();
+        config.setMaxBatchSize(2);
+        config.setWindow(Duration.ofSeconds(5));
+        ArticleUtils utils = new ArticleUtils(new AiConfig().aiAnalysisConfig(), new ObjectMapper(),
+                new AnalysisMetrics(new SimpleMeterRegistry()), new AnalysisPromptConfig());
+        ReflectionTestUtils.setField(utils, "model", "primary-model");
+        service = new AnalysisBatchServiceImpl(config, aiChatService, utils, responses, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void batchesShortArticlesThePreScreenFoundClean() {
+        assertThat(service.accepts(article(0.0, 0))).isTrue();
+    }
+
+    // Suspicious content is analysed alone, where it cannot sway other authors' verdicts
+    @Test
+    void keepsSuspiciousContentOutOfBatches() {
+        assertThat(service.accepts(article(0.5, 0))).isFalse();
+        assertThat(service.accepts(article(0.0, 1))).isFalse();
+        assertThat(service.accepts(Article.builder().title("T").content("Short and clean.").build())).isFalse();
+    }
+
+    // Entries are matched by articleIndex, not position; the one the model left out is analysed alone
+    @Test
+    void batchRepliesAreMatchedToTheirArticles() throws Exception {
+        when(aiChatService.exchange(any(ChatPrompt.class), eq("primary-model"))).thenAnswer(invocation -> {
+            ChatPrompt prompt = invocation.getArgument(0);
+            if (prompt.getUser().startsWith("Articles to analyze")) {
+                return ChatReply.builder()
+                        .content("[" + entry(2, 0.2, "second") + "]")
+                        .usage(new TokenUsage(100, 50))
+                        .build();
+            }
+            return ChatReply.builder().content("single").build();
+        });
+        when(responses.read(any(ChatReply.class), eq("primary-model")))
+                .thenReturn(AIAnalysisResponse.builder().overallScore(0.9).feedback("alone").build());
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<AIAnalysisResponse> first = callers.submit(() -> service.analyse(article(0.0, 0, "first")));
+            Future<AIAnalysisResponse> second = callers.submit(() -> service.analyse(article(0.0, 0, "second")));
+
+            assertThat(second.get(5, TimeUnit.SECONDS).getFeedback()).isEqualTo("second");
+            assertThat(second.get().getUsage()).isNotNull();
+            assertThat(first.get(5, TimeUnit.SECONDS).getFeedback()).isEqualTo("alone");
+        } finally {
+            callers.shutdown();
+        }
+        verify(aiChatService, times(2)).exchange(any(ChatPrompt.class), eq("primary-model"));
+    }
+
+    private static String entry(int index, double score, String feedback) {
+        return "{\"articleIndex\": " + index + ", \"overallScore\": " + score + ", \"feedback\": \"" + feedback
+                + "\"}";
+    }
+
+    private static Article article(double spamScore, int bannedTermHits) {
+        return article(spamScore, bannedTermHits, "Short and clean.");
+    }
+
+    private static Article article(double spamScore, int bannedTermHits, String content) {
+        return Article.builder()
+                .title("T")
+                .content(content)
+                .signals(ContentSignals.builder().spamScore(spamScore).bannedTermHits(bannedTermHits).build())
+                .build();
+    }
+}
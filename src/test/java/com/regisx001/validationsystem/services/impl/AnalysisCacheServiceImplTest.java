@@ -0,0 +1,54 @@
+package com.regisx001.validationsystem.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.regisx001.validationsystem.config.AiConfig;
+import com.regisx001.validationsystem.config.AnalysisCacheConfig;
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.entities.AnalysisCacheEntry;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.repositories.AnalysisCacheRepository;
+import com.regisx001.validationsystem.utils.AnalysisMetrics;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AnalysisCacheServiceImplTest {
+
+    private final AnalysisCacheRepository repository = mock(AnalysisCacheRepository.class);
+    private AnalysisCacheServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ArticleUtils utils = new ArticleUtils(new AiConfig().aiAnalysisConfig(), new ObjectMapper(),
+                new AnalysisMetrics(new SimpleMeterRegistry()), new AnalysisPromptConfig());
+        ReflectionTestUtils.setField(utils, "model", "primary-model");
+        service = new AnalysisCacheServiceImpl(new AnalysisCacheConfig(), repository, new ObjectMapper(), utils,
+                new SimpleMeterRegistry());
+    }
+
+    // A reply from the fallback model is keyed by that model, and the row must name it too
+    @Test
+    void storeRecordsTheModelThatProducedTheResponse() {
+        Article article = Article.builder().title("Title").content("Body").build();
+        String fingerprint = service.fingerprint(article, "fallback-model");
+
+        service.store(fingerprint, "fallback-model", AIAnalysisResponse.builder().overallScore(0.9).build());
+
+        ArgumentCaptor<AnalysisCacheEntry> saved = ArgumentCaptor.forClass(AnalysisCacheEntry.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getFingerprint()).isEqualTo(fingerprint);
+        assertThat(saved.getValue().getAiModel()).isEqualTo("fallback-model");
+        assertThat(fingerprint).isNotEqualTo(service.fingerprint(article));
+        assertThat(service.lookup(fingerprint)).isPresent();
+    }
+}
@@ -0,0 +1,272 @@
+package com.regisx001.validationsystem.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.regisx001.validationsystem.config.AiConfig;
+import com.regisx001.validationsystem.config.AnalysisExecutorConfig;
+import com.regisx001.validationsystem.config.AnalysisJobQueueConfig;
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
+import com.regisx001.validationsystem.domain.entities.AnalysisJob;
+import com.regisx001.validationsystem.domain.enums.AnalysisJobStatus;
+import com.regisx001.validationsystem.domain.enums.AnalysisPriority;
+import com.regisx001.validationsystem.exceptions.AIUnavailableException;
+import com.regisx001.validationsystem.exceptions.ArticleNotAnalysableException;
+import com.regisx001.validationsystem.repositories.AnalysisJobRepository;
+import com.regisx001.validationsystem.services.AIAnalyseService;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.ArticleStatusService;
+import com.regisx001.validationsystem.services.TokenBudgetService;
+import com.regisx001.validationsystem.utils.AnalysisMetrics;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnalysisJobServiceImplTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    @Autowired
+    private AnalysisJobRepository analysisJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final AIAnalyseService aiAnalyseService = mock(AIAnalyseService.class);
+    private final ArticleStatusService articleStatusService = mock(ArticleStatusService.class);
+    private final AnalysisJobQueueConfig config = new AnalysisJobQueueConfig();
+    private final UUID articleId = UUID.randomUUID();
+    private AnalysisJobServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        config.setWorkerConcurrency(2);
+        config.setPollInterval(Duration.ofMillis(20));
+        config.setMaxAttempts(3);
+
+        AIChatService aiChatService = mock(AIChatService.class);
+        when(aiChatService.isAvailable()).thenReturn(true);
+        TokenBudgetService tokenBudgetService = mock(TokenBudgetService.class);
+        when(tokenBudgetService.isConstrained(anyString())).thenReturn(false);
+        ArticleUtils utils = new ArticleUtils(new AiConfig().aiAnalysisConfig(), new ObjectMapper(),
+                new AnalysisMetrics(new SimpleMeterRegistry()), new AnalysisPromptConfig());
+        ReflectionTestUtils.setField(utils, "model", "primary-model");
+
+        service = new AnalysisJobServiceImpl(config, new AnalysisExecutorConfig(), analysisJobRepository,
+                aiAnalyseService, aiChatService, transactionTemplate, jdbcTemplate, tokenBudgetService,
+                articleStatusService, utils);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.stopWorkers();
+        jdbcTemplate.update("DELETE FROM analysis_jobs");
+    }
+
+    @Test
+    void completesAClaimedJob() {
+        service.submit(articleId, AnalysisPriority.NORMAL);
+        service.startWorkers();
+
+        AnalysisJob job = awaitStatus(AnalysisJobStatus.COMPLETED);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getLockedBy()).isNull();
+        verify(aiAnalyseService).analyseArticleManual(articleId);
+    }
+
+    @Test
+    void submitsForAnActiveArticleAreAbsorbed() {
+        service.submit(articleId, AnalysisPriority.LOW);
+        service.submit(articleId, AnalysisPriority.NORMAL);
+
+        assertThat(analysisJobRepository.findAll()).singleElement().satisfies(job -> {
+            assertThat(job.getPriority()).isEqualTo(AnalysisPriority.NORMAL);
+            assertThat(job.getRerun()).isFalse();
+        });
+    }
+
+    // Article writes submit inside their own transaction, which must stay usable and commit the job
+    @Test
+    void submitJoinsTheCallersTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            service.submit(articleId, AnalysisPriority.NORMAL);
+            service.submit(articleId, AnalysisPriority.NORMAL);
+        });
+
+        assertThat(jobs()).singleElement().satisfies(job -> {
+            assertThat(job.getStatus()).isEqualTo(AnalysisJobStatus.PENDING);
+            assertThat(job.getRerun()).isFalse();
+        });
+    }
+
+    // Content edited while the job runs: the outcome is stale, so the job runs again from a clean slate
+    @Test
+    void submitDuringARunQueuesARerun() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (runs.incrementAndGet() == 1) {
+                running.countDown();
+                release.await(WAIT.toSeconds(), TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(aiAnalyseService).analyseArticleManual(articleId);
+
+        service.submit(articleId, AnalysisPriority.NORMAL);
+        service.startWorkers();
+        assertThat(running.await(WAIT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        service.submit(articleId, AnalysisPriority.NORMAL);
+        assertThat(job().getRerun()).isTrue();
+        release.countDown();
+
+        AnalysisJob job = awaitStatus(AnalysisJobStatus.COMPLETED);
+        assertThat(runs).hasValue(2);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getRerun()).isFalse();
+    }
+
+    // A worker that overran the visibility timeout must not finish a job another worker now owns
+    @Test
+    void staleClaimCannotFinishTheReclaimedJob() throws InterruptedException {
+        config.setVisibilityTimeout(Duration.ofMillis(300));
+        CountDownLatch firstRunning = new CountDownLatch(1);
+        CountDownLatch secondRunning = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch releaseSecond = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            if (threads.size() == 1) {
+                firstRunning.countDown();
+                releaseFirst.await(WAIT.toSeconds(), TimeUnit.SECONDS);
+                throw new IllegalStateException("finished after its claim expired");
+            }
+            secondRunning.countDown();
+            releaseSecond.await(WAIT.toSeconds(), TimeUnit.SECONDS);
+            return null;
+        }).when(aiAnalyseService).analyseArticleManual(articleId);
+
+        service.submit(articleId, AnalysisPriority.NORMAL);
+        service.startWorkers();
+        assertThat(firstRunning.await(WAIT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        assertThat(secondRunning.await(WAIT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        // The second claim stays valid from here on, so nothing but the stale finish can touch the job
+        jdbcTemplate.update("UPDATE analysis_jobs SET locked_until = ?", LocalDateTime.now().plusMinutes(5));
+        assertThat(threads).doesNotHaveDuplicates();
+        String secondOwner = job().getLockedBy();
+        assertThat(secondOwner).endsWith("-worker-" + workerIndex(threads.get(1)));
+        verify(articleStatusService).releaseStaleReview(eq(articleId), any(LocalDateTime.class));
+
+        releaseFirst.countDown();
+        Thread.sleep(200);
+        AnalysisJob reclaimed = job();
+        assertThat(reclaimed.getStatus()).isEqualTo(AnalysisJobStatus.RUNNING);
+        assertThat(reclaimed.getLockedBy()).isEqualTo(secondOwner);
+        assertThat(reclaimed.getLastError()).isNull();
+
+        releaseSecond.countDown();
+        assertThat(awaitStatus(AnalysisJobStatus.COMPLETED).getAttempts()).isEqualTo(2);
+    }
+
+    // Provider back-pressure leaves the job pending without spending one of its attempts
+    @Test
+    void deferralDoesNotCountAsAnAttempt() {
+        doThrow(new AIUnavailableException("AI provider rate limit reached", Duration.ofHours(1)))
+                .when(aiAnalyseService).analyseArticleManual(articleId);
+
+        service.submit(articleId, AnalysisPriority.NORMAL);
+        service.startWorkers();
+
+        verify(aiAnalyseService, timeout(WAIT.toMillis())).analyseArticleManual(articleId);
+        AnalysisJob job = awaitStatus(AnalysisJobStatus.PENDING);
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getLockedBy()).isNull();
+        assertThat(job.getAvailableAt()).isAfter(LocalDateTime.now().plusMinutes(30));
+    }
+
+    @Test
+    void retryableFailuresBackOffAndOthersFailAtOnce() {
+        config.setInitialBackoff(Duration.ofHours(1));
+        config.setMaxBackoff(Duration.ofHours(1));
+        doThrow(new IllegalStateException("500 - provider error")).when(aiAnalyseService)
+                .analyseArticleManual(articleId);
+        UUID unanalysable = UUID.randomUUID();
+        doThrow(new ArticleNotAnalysableException("Article is empty")).when(aiAnalyseService)
+                .analyseArticleManual(unanalysable);
+
+        service.submit(articleId, AnalysisPriority.NORMAL);
+        service.submit(unanalysable, AnalysisPriority.NORMAL);
+        service.startWorkers();
+
+        await().atMost(WAIT).until(() -> jobs().stream().allMatch(job -> job.getLastError() != null));
+        assertThat(jobs()).allSatisfy(job -> {
+            if (job.getArticleId().equals(articleId)) {
+                assertThat(job.getStatus()).isEqualTo(AnalysisJobStatus.PENDING);
+                assertThat(job.getAvailableAt()).isAfter(LocalDateTime.now().plusMinutes(30));
+            } else {
+                assertThat(job.getStatus()).isEqualTo(AnalysisJobStatus.FAILED);
+            }
+            assertThat(job.getAttempts()).isEqualTo(1);
+        });
+        verify(aiAnalyseService, times(1)).analyseArticleManual(unanalysable);
+    }
+
+    // Platform workers are named AnalysisWorker-<n> and claim as <prefix>-worker-<n>
+    private static String workerIndex(String threadName) {
+        return threadName.substring(threadName.lastIndexOf('-') + 1);
+    }
+
+    private AnalysisJob awaitStatus(AnalysisJobStatus status) {
+        await().atMost(WAIT).until(() -> job().getStatus() == status);
+        return job();
+    }
+
+    private AnalysisJob job() {
+        return jobs().stream().filter(job -> job.getArticleId().equals(articleId)).findFirst().orElseThrow();
+    }
+
+    private List<AnalysisJob> jobs() {
+        return analysisJobRepository.findAll();
+    }
+}
@@ -0,0 +1,173 @@
+package com.regisx001.validationsystem.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.regisx001.validationsystem.config.AnalysisPersistenceConfig;
+import com.regisx001.validationsystem.domain.entities.AnalyseHistory;
+import com.regisx001.validationsystem.domain.entities.AnalyseResult;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ContentSignals;
+import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.repositories.ArticleRepository;
+import com.regisx001.validationsystem.utils.ContentHashing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnalysisOutcomeWriterImplTest {
+
+    private static final String CONTENT = "The original text of the article, long enough to be analysed.";
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private AnalysisOutcomeWriterImpl writer;
+    private final List<Boolean> committed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        AnalysisPersistenceConfig config = new AnalysisPersistenceConfig();
+        config.setWriteBehind(false);
+        writer = new AnalysisOutcomeWriterImpl(config, jdbcTemplate, transactionTemplate, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM analyse_histories");
+        jdbcTemplate.update("DELETE FROM analyse_results");
+        jdbcTemplate.update("DELETE FROM articles");
+    }
+
+    @Test
+    void appliesTheTransitionWhileTheStatusIsUnchanged() {
+        Article article = underReview();
+
+        boolean applied = writer.write(approved(article), ArticleStatus.UNDER_AI_REVIEW, result(article),
+                history(article), committed::add);
+
+        assertThat(applied).isTrue();
+        assertThat(committed).containsExactly(true);
+        assertThat(status(article)).isEqualTo("APPROVED");
+        assertThat(count("analyse_results")).isEqualTo(1);
+        assertThat(count("analyse_histories")).isEqualTo(1);
+    }
+
+    // An editor decided while the AI call ran: the result is kept but the AI's transition is not
+    @Test
+    void keepsTheResultButNotTheTransitionAfterACasMiss() {
+        Article article = underReview();
+        jdbcTemplate.update("UPDATE articles SET status = 'REJECTED' WHERE id = ?", article.getId());
+
+        boolean applied = writer.write(approved(article), ArticleStatus.UNDER_AI_REVIEW, result(article),
+                history(article), committed::add);
+
+        assertThat(applied).isFalse();
+        assertThat(committed).containsExactly(false);
+        assertThat(status(article)).isEqualTo("REJECTED");
+        assertThat(count("analyse_results")).isEqualTo(1);
+        assertThat(count("analyse_histories")).isZero();
+    }
+
+    @Test
+    void storesSignalsForTheContentThatWasAnalysed() {
+        Article article = underReview();
+
+        writer.write(approved(article), ArticleStatus.UNDER_AI_REVIEW, result(article), history(article),
+                committed::add);
+
+        assertThat(wordCount(article)).isEqualTo(11);
+    }
+
+    // The edit stored signals for the new content; the analysis of the old content must not replace them
+    @Test
+    void keepsSignalsOfContentEditedDuringTheAnalysis() {
+        Article article = underReview();
+        String edited = "A rewritten article.";
+        jdbcTemplate.update("UPDATE articles SET content = ?, content_hash = ?, word_count = 3 WHERE id = ?",
+                edited, ContentHashing.fingerprint(edited), article.getId());
+
+        boolean applied = writer.write(approved(article), ArticleStatus.UNDER_AI_REVIEW, result(article),
+                history(article), committed::add);
+
+        assertThat(applied).isTrue();
+        assertThat(wordCount(article)).isEqualTo(3);
+    }
+
+    private Article underReview() {
+        Article article = Article.builder()
+                .title("Title")
+                .content(CONTENT)
+                .contentHash(ContentHashing.fingerprint(CONTENT))
+                .status(ArticleStatus.UNDER_AI_REVIEW)
+                .signals(ContentSignals.builder().wordCount(1).build())
+                .build();
+        return articleRepository.save(article);
+    }
+
+    private static Article approved(Article article) {
+        article.setStatus(ArticleStatus.APPROVED);
+        article.setApprovedBy("AI");
+        article.setApprovedAt(LocalDateTime.now());
+        article.setSignals(ContentSignals.builder().wordCount(11).screenedAt(LocalDateTime.now()).build());
+        return article;
+    }
+
+    private static AnalyseResult result(Article article) {
+        return AnalyseResult.builder()
+                .article(article)
+                .decision(AnalyseDecision.APPROVED)
+                .confidenceScore(0.9)
+                .aiModel("test-model")
+                .build();
+    }
+
+    private static AnalyseHistory history(Article article) {
+        return AnalyseHistory.builder()
+                .article(article)
+                .fromStatus(ArticleStatus.UNDER_AI_REVIEW)
+                .toStatus(ArticleStatus.APPROVED)
+                .performedBy("AI")
+                .build();
+    }
+
+    private String status(Article article) {
+        return jdbcTemplate.queryForObject("SELECT status FROM articles WHERE id = ?", String.class,
+                article.getId());
+    }
+
+    private Integer wordCount(Article article) {
+        return jdbcTemplate.queryForObject("SELECT word_count FROM articles WHERE id = ?", Integer.class,
+                article.getId());
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
@@ -0,0 +1,138 @@
+package com.regisx001.validationsystem.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.regisx001.validationsystem.config.AnalysisChunkConfig;
+import com.regisx001.validationsystem.domain.dtos.StatusTransition;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.exceptions.ArticleConflictException;
+import com.regisx001.validationsystem.repositories.ArticleRepository;
+import com.regisx001.validationsystem.services.AnalysisJobService;
+import com.regisx001.validationsystem.services.ArticleService;
+import com.regisx001.validationsystem.services.ArticleStatusService;
+import com.regisx001.validationsystem.services.OriginalityService;
+import com.regisx001.validationsystem.utils.ArticleReadCache;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ ArticleServiceImpl.class, ArticleStatusServiceImpl.class })
+class ArticleServiceImplTest {
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleStatusService articleStatusService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @MockitoBean
+    private AnalysisJobService analysisJobService;
+
+    @MockitoBean
+    private AnalysisChunkConfig analysisChunkConfig;
+
+    @MockitoBean
+    private OriginalityService originalityService;
+
+    @MockitoBean
+    private ArticleReadCache articleReadCache;
+
+    @AfterEach
+    void tearDown() {
+        articleRepository.deleteAll();
+    }
+
+    // The editor loaded the article while it awaited approval; the AI approved it before they rejected it
+    @Test
+    void decisionBasedOnAnOutdatedStatusIsRefused() {
+        Article article = article(ArticleStatus.SUBMITTED_FOR_APPROVAL);
+        aiDecides(article, ArticleStatus.AI_APPROVED);
+
+        assertThatThrownBy(() -> articleService.updateArticle(article.getId(), rejection(),
+                ArticleStatus.SUBMITTED_FOR_APPROVAL))
+                .isInstanceOf(ArticleConflictException.class)
+                .hasMessageContaining("no longer SUBMITTED_FOR_APPROVAL");
+
+        Article stored = articleRepository.findById(article.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(ArticleStatus.AI_APPROVED);
+        assertThat(stored.getRejectedBy()).isNull();
+    }
+
+    @Test
+    void decisionBasedOnTheCurrentStatusApplies() {
+        Article article = article(ArticleStatus.SUBMITTED_FOR_APPROVAL);
+        aiDecides(article, ArticleStatus.AI_APPROVED);
+
+        articleService.updateArticle(article.getId(), rejection(), ArticleStatus.AI_APPROVED);
+
+        Article stored = articleRepository.findById(article.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(ArticleStatus.REJECTED);
+        assertThat(stored.getRejectedBy()).isEqualTo("editor");
+    }
+
+    @Test
+    void statusChangeWithoutTheStatusItWasDecidedFromIsRefused() {
+        Article article = article(ArticleStatus.SUBMITTED_FOR_APPROVAL);
+
+        assertThatThrownBy(() -> articleService.updateArticle(article.getId(), rejection(), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("requires the status");
+        assertThat(articleRepository.findById(article.getId()).orElseThrow().getStatus())
+                .isEqualTo(ArticleStatus.SUBMITTED_FOR_APPROVAL);
+    }
+
+    @Test
+    void feedbackBasedOnAnOutdatedStatusIsRefused() {
+        Article article = article(ArticleStatus.SUBMITTED_FOR_APPROVAL);
+        aiDecides(article, ArticleStatus.AI_REJECTED);
+
+        Article feedback = Article.builder().status(null).isPublished(null).feedback("Looks fine to me").build();
+        assertThatThrownBy(() -> articleService.updateArticle(article.getId(), feedback,
+                ArticleStatus.SUBMITTED_FOR_APPROVAL))
+                .isInstanceOf(ArticleConflictException.class);
+        assertThat(articleRepository.findById(article.getId()).orElseThrow().getFeedback()).isNull();
+    }
+
+    private Article article(ArticleStatus status) {
+        return articleRepository.save(Article.builder()
+                .title("Title")
+                .content("Some content for the article.")
+                .status(status)
+                .build());
+    }
+
+    private void aiDecides(Article article, ArticleStatus decision) {
+        assertThat(articleStatusService.transition(StatusTransition.builder()
+                .articleId(article.getId())
+                .expectedStatus(article.getStatus())
+                .targetStatus(decision)
+                .actor("AI")
+                .build())).isTrue();
+    }
+
+    private static Article rejection() {
+        return Article.builder()
+                .status(ArticleStatus.REJECTED)
+                .isPublished(null)
+                .rejectedBy("editor")
+                .feedback("Off topic")
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.regisx001.validationsystem.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.regisx001.validationsystem.domain.dtos.ReviewClaim;
+import com.regisx001.validationsystem.domain.dtos.StatusTransition;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.enums.ArticleStatus;
+import com.regisx001.validationsystem.repositories.ArticleRepository;
+import com.regisx001.validationsystem.services.ArticleStatusService;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ArticleStatusServiceImpl.class)
+class ArticleStatusServiceImplTest {
+
+    @Autowired
+    private ArticleStatusService articleStatusService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @AfterEach
+    void tearDown() {
+        articleRepository.deleteAll();
+    }
+
+    // Two decisions read the same status; only the first may apply
+    @Test
+    void concurrentTransitionsFromTheSameStatusApplyOnce() throws Exception {
+        Article article = article(ArticleStatus.SUBMITTED_FOR_APPROVAL);
+
+        List<Boolean> applied = race(
+                () -> articleStatusService.transition(transition(article, ArticleStatus.APPROVED)),
+                () -> articleStatusService.transition(transition(article, ArticleStatus.REJECTED)));
+
+        assertThat(applied).containsExactlyInAnyOrder(true, false);
+        Article stored = articleRepository.findById(article.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isIn(ArticleStatus.APPROVED, ArticleStatus.REJECTED);
+        assertThat(stored.getApprovedBy() == null).isNotEqualTo(stored.getRejectedBy() == null);
+    }
+
+    @Test
+    void transitionFromAStatusTheArticleHasLeftIsRefused() {
+        Article article = article(ArticleStatus.APPROVED);
+
+        assertThat(articleStatusService.transition(StatusTransition.builder()
+                .articleId(article.getId())
+                .expectedStatus(ArticleStatus.SUBMITTED_FOR_APPROVAL)
+                .targetStatus(ArticleStatus.REJECTED)
+                .actor("editor")
+                .build())).isFalse();
+        assertThat(status(article)).isEqualTo(ArticleStatus.APPROVED);
+    }
+
+    @Test
+    void onlyOneOfTwoConcurrentAnalysesClaimsTheArticle() throws Exception {
+        Article article = article(ArticleStatus.DRAFT);
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(10);
+
+        List<Optional<ReviewClaim>> claims = race(
+                () -> articleStatusService.claimReview(article.getId(), ArticleStatus.DRAFT, staleBefore),
+                () -> articleStatusService.claimReview(article.getId(), ArticleStatus.DRAFT, staleBefore));
+
+        assertThat(claims).filteredOn(Optional::isPresent).singleElement()
+                .satisfies(claim -> assertThat(claim.get().getPreviousStatus()).isEqualTo(ArticleStatus.DRAFT));
+        assertThat(status(article)).isEqualTo(ArticleStatus.UNDER_AI_REVIEW);
+    }
+
+    // A crashed analysis left its claim behind: the takeover keeps the status that claim remembered,
+    // and the crashed owner can no longer hand the article back
+    @Test
+    void staleClaimIsTakenOverAndCannotBeReleasedByItsOldOwner() {
+        Article article = article(ArticleStatus.SUBMITTED_FOR_APPROVAL);
+        ReviewClaim stale = articleStatusService.claimReview(article.getId(), ArticleStatus.SUBMITTED_FOR_APPROVAL,
+                LocalDateTime.now()).orElseThrow();
+
+        assertThat(articleStatusService.claimReview(article.getId(), ArticleStatus.UNDER_AI_REVIEW,
+                stale.getClaimedAt())).isEmpty();
+        ReviewClaim current = articleStatusService.claimReview(article.getId(), ArticleStatus.UNDER_AI_REVIEW,
+                LocalDateTime.now().plusSeconds(1)).orElseThrow();
+        assertThat(current.getPreviousStatus()).isEqualTo(ArticleStatus.SUBMITTED_FOR_APPROVAL);
+
+        assertThat(articleStatusService.releaseReview(article.getId(), stale)).isFalse();
+        assertThat(status(article)).isEqualTo(ArticleStatus.UNDER_AI_REVIEW);
+
+        assertThat(articleStatusService.releaseReview(article.getId(), current)).isTrue();
+        assertThat(status(article)).isEqualTo(ArticleStatus.SUBMITTED_FOR_APPROVAL);
+    }
+
+    // The job queue hands back reviews whose worker is gone, but never a claim taken after that worker's
+    @Test
+    void staleReleaseLeavesANewerClaimAlone() {
+        Article article = article(ArticleStatus.DRAFT);
+        ReviewClaim claim = articleStatusService.claimReview(article.getId(), ArticleStatus.DRAFT,
+                LocalDateTime.now()).orElseThrow();
+
+        assertThat(articleStatusService.releaseStaleReview(article.getId(), claim.getClaimedAt().minusSeconds(1)))
+                .isFalse();
+        assertThat(status(article)).isEqualTo(ArticleStatus.UNDER_AI_REVIEW);
+
+        assertThat(articleStatusService.releaseStaleReview(article.getId(), claim.getClaimedAt())).isTrue();
+        assertThat(status(article)).isEqualTo(ArticleStatus.DRAFT);
+    }
+
+    private Article article(ArticleStatus status) {
+        return articleRepository.save(Article.builder().title("Title").content("Content").status(status).build());
+    }
+
+    private ArticleStatus status(Article article) {
+        return articleRepository.findStatusById(article.getId()).orElseThrow();
+    }
+
+    private static StatusTransition transition(Article article, ArticleStatus target) {
+        return StatusTransition.builder()
+                .articleId(article.getId())
+                .expectedStatus(article.getStatus())
+                .targetStatus(target)
+                .actor("editor")
+                .build();
+    }
+
+    // Releases all calls at once from their own threads
+    @SafeVarargs
+    private static <T> List<T> race(Callable<T>... calls) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(calls.length);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> call : calls) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.regisx001.validationsystem.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.regisx001.validationsystem.config.AIPromptTemplates;
+import com.regisx001.validationsystem.config.AiConfig;
+import com.regisx001.validationsystem.config.AnalysisChunkConfig;
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.entities.Article;
+import com.regisx001.validationsystem.domain.entities.ChunkAnalysis;
+import com.regisx001.validationsystem.domain.enums.AnalyseDecision;
+import com.regisx001.validationsystem.repositories.ChunkAnalysisRepository;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.AnalysisResponseService;
+import com.regisx001.validationsystem.utils.AnalysisMetrics;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+import com.regisx001.validationsystem.utils.ContentChunker;
+import com.regisx001.validationsystem.utils.ContentChunker.Chunk;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChunkedAnalysisServiceImplTest {
+
+    private final AnalysisChunkConfig config = new AnalysisChunkConfig();
+    private final ArticleUtils utils = new ArticleUtils(new AiConfig().aiAnalysisConfig(), new ObjectMapper(),
+            new AnalysisMetrics(new SimpleMeterRegistry()), new AnalysisPromptConfig());
+    private final ContentChunker chunker = new ContentChunker(config, utils);
+    private final ChunkAnalysisRepository repository = mock(ChunkAnalysisRepository.class);
+    private final AIChatService aiChatService = mock(AIChatService.class);
+    private final ChunkedAnalysisServiceImpl service = new ChunkedAnalysisServiceImpl(config, chunker, repository,
+            aiChatService, utils, mock(AnalysisResponseService.class));
+
+    private final Article article = Article.builder().title("Title").content(content(80)).build();
+
+    @Test
+    void cleanArticleIsApproved() {
+        List<Chunk> chunks = chunker.split(article.getTitle(), article.getContent());
+        known(chunks, -1, 0.1, 0.05, "REJECTED");
+
+        AIAnalysisResponse merged = service.analyse(article);
+
+        assertThat(utils.determineDecision(merged)).isEqualTo(AnalyseDecision.APPROVED);
+        verifyNoInteractions(aiChatService);
+    }
+
+    // A size-weighted average of these sections would pass the approval threshold
+    @Test
+    void oneBadSectionInALongCleanArticleIsNotDilutedIntoAnApproval() {
+        List<Chunk> chunks = chunker.split(article.getTitle(), article.getContent());
+        int bad = shortest(chunks);
+        double total = chunks.stream().mapToInt(Chunk::tokens).sum();
+        double badShare = chunks.get(bad).tokens() / total;
+        assertThat(0.95 * (1 - badShare) + 0.1 * badShare).isGreaterThan(0.8);
+        known(chunks, bad, 0.1, 0.05, "REJECTED");
+
+        AIAnalysisResponse merged = service.analyse(article);
+
+        assertThat(merged.getAppropriateness().getScore()).isEqualTo(0.05);
+        assertThat(merged.getRecommendation()).isEqualTo("REJECTED");
+        assertThat(utils.determineDecision(merged)).isEqualTo(AnalyseDecision.REJECTED);
+    }
+
+    @Test
+    void aSectionTheModelRejectedRejectsTheArticleWhateverItsScore() {
+        List<Chunk> chunks = chunker.split(article.getTitle(), article.getContent());
+        known(chunks, shortest(chunks), 0.7, 0.9, "REJECTED");
+
+        assertThat(utils.determineDecision(service.analyse(article))).isEqualTo(AnalyseDecision.REJECTED);
+    }
+
+    @Test
+    void aMediocreSectionSendsTheArticleToManualReview() {
+        List<Chunk> chunks = chunker.split(article.getTitle(), article.getContent());
+        known(chunks, shortest(chunks), 0.6, 0.9, "NEEDS_REVISION");
+
+        assertThat(utils.determineDecision(service.analyse(article)))
+                .isEqualTo(AnalyseDecision.REQUIRES_MANUAL_REVIEW);
+    }
+
+    // Every section was analysed before; the one at bad gets the given scores, the rest are clean
+    private void known(List<Chunk> chunks, int bad, double overall, double appropriateness, String recommendation) {
+        List<ChunkAnalysis> analyses = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            boolean isBad = chunk.index() == bad;
+            analyses.add(ChunkAnalysis.builder()
+                    .chunkHash(chunk.hash())
+                    .promptVersion(AIPromptTemplates.CHUNK_ANALYSIS_PROMPT_VERSION)
+                    .tokenCount(chunk.tokens())
+                    .overallScore(isBad ? overall : 0.95)
+                    .appropriatenessScore(isBad ? appropriateness : 0.95)
+                    .contentQualityScore(0.9)
+                    .grammarScore(0.9)
+                    .seoScore(0.9)
+                    .recommendation(isBad ? recommendation : "APPROVED")
+                    .feedback(isBad ? "Abusive section" : "Fine")
+                    .build());
+        }
+        when(repository.findByChunkHashInAndAiModelAndPromptVersion(any(), any(), any())).thenReturn(analyses);
+    }
+
+    private static int shortest(List<Chunk> chunks) {
+        Chunk shortest = chunks.get(0);
+        for (Chunk chunk : chunks) {
+            if (chunk.tokens() < shortest.tokens()) {
+                shortest = chunk;
+            }
+        }
+        return shortest.index();
+    }
+
+    private static String content(int paragraphs) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < paragraphs; i++) {
+            if (i > 0) {
+                content.append("\n\n");
+            }
+            content.append("Paragraph ").append(i).append(" explains one more point about the topic in plain, ")
+                    .append("careful sentences with a few concrete examples and a short conclusion that ")
+                    .append("leads into the next paragraph of the article number ").append(i).append('.');
+        }
+        return content.toString();
+    }
+}
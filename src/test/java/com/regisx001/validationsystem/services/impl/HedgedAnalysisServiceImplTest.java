@@ -0,0 +1,116 @@
+package com.regisx001.validationsystem.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.regisx001.validationsystem.config.AiConfig;
+import com.regisx001.validationsystem.config.AnalysisHedgeConfig;
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
+import com.regisx001.validationsystem.domain.dtos.AIAnalysisResponse;
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.domain.dtos.ChatReply;
+import com.regisx001.validationsystem.domain.dtos.ModelAnalysisResponse;
+import com.regisx001.validationsystem.services.AIChatService;
+import com.regisx001.validationsystem.services.AnalysisResponseService;
+import com.regisx001.validationsystem.utils.AnalysisMetrics;
+import com.regisx001.validationsystem.utils.ArticleUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HedgedAnalysisServiceImplTest {
+
+    private static final ChatPrompt PROMPT = ChatPrompt.builder().user("Analyse this article.").build();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AIChatService aiChatService = mock(AIChatService.class);
+    private final AnalysisResponseService responses = mock(AnalysisResponseService.class);
+    private final AnalysisHedgeConfig config = new AnalysisHedgeConfig();
+    private HedgedAnalysisServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        config.setInitialDelay(Duration.ofMillis(100));
+        config.setMinDelay(Duration.ofMillis(1));
+        config.setMinSamples(1);
+        config.setMaxHedgeRatio(1);
+        ArticleUtils utils = new ArticleUtils(new AiConfig().aiAnalysisConfig(), new ObjectMapper(),
+                new AnalysisMetrics(meterRegistry), new AnalysisPromptConfig());
+        ReflectionTestUtils.setField(utils, "model", "primary-model");
+        service = new HedgedAnalysisServiceImpl(config, aiChatService, utils, responses, meterRegistry);
+        when(aiChatService.isAvailable()).thenReturn(true);
+        when(responses.read(any(), any())).thenReturn(AIAnalysisResponse.builder().overallScore(0.9).build());
+    }
+
+    // Waiting for the rate limiter or a permit is not provider latency, and hedging it would only add load
+    @Test
+    void callQueuedLocallyPastTheHedgeDelayIsNotHedged() {
+        when(aiChatService.exchange(any(), any(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return sent(invocation.getArgument(3), Duration.ofMillis(20));
+        });
+
+        ModelAnalysisResponse result = service.analyse(PROMPT);
+
+        assertThat(result.isHedged()).isFalse();
+        assertThat(hedges()).isEqualTo(0.0);
+        verify(aiChatService, times(1)).exchange(any(), any(), any(), any());
+    }
+
+    @Test
+    void hedgeDelayFollowsProviderRoundTripsOnly() {
+        when(aiChatService.exchange(any(), any(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return sent(invocation.getArgument(3), Duration.ofMillis(20));
+        });
+
+        service.analyse(PROMPT);
+
+        assertThat(meterRegistry.get("analysis.hedge.delay").gauge().value()).isEqualTo(20.0);
+    }
+
+    @Test
+    void callSlowAtTheProviderIsHedged() {
+        when(aiChatService.exchange(any(), anyString(), any(), any())).thenAnswer(invocation -> {
+            LongConsumer onSent = invocation.getArgument(3);
+            long sentAt = System.nanoTime();
+            onSent.accept(sentAt);
+            // The primary hangs at the provider; the hedge answers at once
+            if (hedges() == 0) {
+                TimeUnit.SECONDS.sleep(5);
+            }
+            return ChatReply.builder().content("{}").providerNanos(System.nanoTime() - sentAt).build();
+        });
+
+        long start = System.nanoTime();
+        ModelAnalysisResponse result = service.analyse(PROMPT);
+
+        assertThat(result.isHedged()).isTrue();
+        assertThat(hedges()).isEqualTo(1.0);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    // Reports the request as sent now, with the given provider round trip
+    private static ChatReply sent(LongConsumer onSent, Duration providerTime) {
+        onSent.accept(System.nanoTime());
+        return ChatReply.builder().content("{}").providerNanos(providerTime.toNanos()).build();
+    }
+
+    private double hedges() {
+        return meterRegistry.get("analysis.hedge.calls").tag("role", "hedge").counter().count();
+    }
+}
@@ -0,0 +1,92 @@
+package com.regisx001.validationsystem.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.regisx001.validationsystem.config.AIResilienceConfig;
+import com.regisx001.validationsystem.config.AiConfig;
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
+import com.regisx001.validationsystem.domain.dtos.ChatPrompt;
+import com.regisx001.validationsystem.exceptions.AIUnavailableException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AICallGuardTest {
+
+    private static final ChatPrompt PROMPT = ChatPrompt.builder().user("Analyse this article.").build();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void halfOpenProbeIsReturnedWhenTheRateLimiterRejects() throws InterruptedException {
+        AICallGuard guard = guard();
+
+        // Spends the only request slot for the next 500ms and trips the breaker
+        guard.admit(PROMPT);
+        guard.onFailure(new IllegalStateException("500 - provider error"), 0);
+        assertThat(circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(20);
+        // Claims the half-open probe, then the limiter refuses the call
+        assertThatThrownBy(() -> guard.admit(PROMPT))
+                .isInstanceOf(AIUnavailableException.class)
+                .hasMessageContaining("rate limit");
+        assertThat(guard.isAvailable()).isTrue();
+
+        Thread.sleep(600);
+        guard.admit(PROMPT);
+        guard.onSuccess(Duration.ofMillis(100).toNanos());
+        assertThat(circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenProbeIsReturnedWhenTheRateLimitWaitIsInterrupted() throws InterruptedException {
+        AIResilienceConfig config = config();
+        config.getRateLimit().setMaxWait(Duration.ofSeconds(5));
+        AICallGuard guard = guard(config);
+
+        guard.admit(PROMPT);
+        guard.onFailure(new IllegalStateException("500 - provider error"), 0);
+        Thread.sleep(20);
+
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> guard.admit(PROMPT)).isInstanceOf(IllegalStateException.class);
+        assertThat(Thread.interrupted()).isTrue();
+        assertThat(guard.isAvailable()).isTrue();
+    }
+
+    private AICallGuard guard() {
+        return guard(config());
+    }
+
+    private AICallGuard guard(AIResilienceConfig config) {
+        ArticleUtils utils = new ArticleUtils(new AiConfig().aiAnalysisConfig(), new ObjectMapper(),
+                new AnalysisMetrics(meterRegistry), new AnalysisPromptConfig());
+        return new AICallGuard(config, utils, meterRegistry);
+    }
+
+    // Two requests per second with no queueing allowed, and a breaker that trips on one failure
+    // and half-opens almost immediately
+    private static AIResilienceConfig config() {
+        AIResilienceConfig config = new AIResilienceConfig();
+        config.getRateLimit().setInitialRequestsPerSecond(2);
+        config.getRateLimit().setMinRequestsPerSecond(2);
+        config.getRateLimit().setMaxRequestsPerSecond(2);
+        config.getRateLimit().setMaxWait(Duration.ZERO);
+        config.getCircuitBreaker().setFailureThreshold(1);
+        config.getCircuitBreaker().setOpenDuration(Duration.ofMillis(5));
+        config.getCircuitBreaker().setHalfOpenProbes(1);
+        return config;
+    }
+
+    private CircuitBreaker.State circuitState() {
+        return CircuitBreaker.State.values()[(int) meterRegistry.get("analysis.provider.circuit.state").gauge()
+                .value()];
+    }
+}
@@ -0,0 +1,71 @@
+package com.regisx001.validationsystem.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickTest {
+
+    @Test
+    void countsOverlappingMatchesThroughFailureLinks() {
+        AhoCorasick automaton = new AhoCorasick(List.of("he", "she", "his", "hers"));
+
+        // "she" and "he" end at the 'e', "hers" at the 's'
+        assertThat(matches(automaton, "ushers")).isEqualTo(3);
+        assertThat(matches(automaton, "ahishers")).isEqualTo(4);
+    }
+
+    @Test
+    void recoversAfterAPartialMatch() {
+        AhoCorasick automaton = new AhoCorasick(List.of("abcd", "bce"));
+
+        assertThat(matches(automaton, "abce")).isEqualTo(1);
+        assertThat(matches(automaton, "ababcd")).isEqualTo(1);
+    }
+
+    @Test
+    void duplicatePatternsAreCountedSeparately() {
+        AhoCorasick automaton = new AhoCorasick(List.of("spam", "spam"));
+
+        assertThat(matches(automaton, "spam and spam")).isEqualTo(4);
+    }
+
+    @Test
+    void emptyAndNullPatternsAreIgnored() {
+        AhoCorasick automaton = new AhoCorasick(Arrays.asList("", null));
+
+        assertThat(automaton.isEmpty()).isTrue();
+        assertThat(matches(automaton, "anything")).isZero();
+    }
+
+    @Test
+    void wholeWordTermsMatchTheScannerFilter() {
+        AhoCorasick automaton = new AhoCorasick(List.of(
+                ContentScanner.bannedTermPattern("Free-Money!"),
+                ContentScanner.bannedTermPattern("don't  PAY")));
+
+        assertThat(ContentScanner.scan("Get FREE money now, free... money!", automaton).bannedTermHits())
+                .isEqualTo(2);
+        assertThat(ContentScanner.scan("Carefree moneylenders", automaton).bannedTermHits()).isZero();
+        assertThat(ContentScanner.scan("Don't pay twice.", automaton).bannedTermHits()).isEqualTo(1);
+    }
+
+    @Test
+    void termsWithoutWordCharactersHaveNoPattern() {
+        assertThat(ContentScanner.bannedTermPattern(" -- !! ")).isNull();
+        assertThat(ContentScanner.bannedTermPattern("  Casino\tBonus ")).isEqualTo(" casino bonus ");
+    }
+
+    private static int matches(AhoCorasick automaton, String text) {
+        int state = AhoCorasick.ROOT;
+        int matches = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = automaton.next(state, text.charAt(i));
+            matches += automaton.matchesAt(state);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,78 @@
+package com.regisx001.validationsystem.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.regisx001.validationsystem.domain.enums.ArticleListOrder;
+
+class ArticleCursorTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000);
+
+    @Test
+    void roundTripsEveryField() {
+        ArticleCursor cursor = new ArticleCursor(ArticleListOrder.PUBLISHED, TIMESTAMP, UUID.randomUUID());
+
+        assertThat(ArticleCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedFormIsUrlSafe() {
+        ArticleCursor cursor = new ArticleCursor(ArticleListOrder.CREATED, TIMESTAMP,
+                UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+
+        String encoded = cursor.encode();
+        assertThat(encoded).doesNotContain("+");
+        assertThat(encoded).doesNotContain("/");
+        assertThat(encoded).doesNotContain("=");
+    }
+
+    // Rows sharing a timestamp are ordered by id, so the cursor must keep both exactly
+    @Test
+    void keepsTheIdTieBreakForEqualTimestamps() {
+        UUID lower = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID higher = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        ArticleCursor first = new ArticleCursor(ArticleListOrder.CREATED, TIMESTAMP, higher);
+        ArticleCursor second = new ArticleCursor(ArticleListOrder.CREATED, TIMESTAMP, lower);
+
+        assertThat(first.encode()).isNotEqualTo(second.encode());
+        ArticleCursor decoded = ArticleCursor.decode(second.encode());
+        assertThat(decoded.timestamp()).isEqualTo(TIMESTAMP);
+        assertThat(decoded.id()).isEqualTo(lower);
+    }
+
+    @Test
+    void keepsTimestampsWithoutFractionalSeconds() {
+        ArticleCursor cursor = new ArticleCursor(ArticleListOrder.CREATED, LocalDateTime.of(2025, 1, 1, 0, 0),
+                UUID.randomUUID());
+
+        assertThat(ArticleCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "not base64 at all!",
+            "CREATED|2025-01-01T00:00",
+            "NEWEST|2025-01-01T00:00|00000000-0000-0000-0000-000000000001",
+            "CREATED|yesterday|00000000-0000-0000-0000-000000000001",
+            "CREATED|2025-01-01T00:00|not-a-uuid"
+    })
+    void rejectsMalformedCursors(String raw) {
+        String cursor = raw.contains("|")
+                ? Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8))
+                : raw;
+
+        assertThatThrownBy(() -> ArticleCursor.decode(cursor))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+}
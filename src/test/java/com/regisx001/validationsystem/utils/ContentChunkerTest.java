@@ -0,0 +1,103 @@
+package com.regisx001.validationsystem.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.regisx001.validationsystem.config.AiConfig;
+import com.regisx001.validationsystem.config.AnalysisChunkConfig;
+import com.regisx001.validationsystem.config.AnalysisPromptConfig;
+import com.regisx001.validationsystem.utils.ContentChunker.Chunk;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ContentChunkerTest {
+
+    private final ContentChunker chunker = new ContentChunker(new AnalysisChunkConfig(),
+            new ArticleUtils(new AiConfig().aiAnalysisConfig(), new ObjectMapper(),
+                    new AnalysisMetrics(new SimpleMeterRegistry()), new AnalysisPromptConfig()));
+
+    @Test
+    void insertingAParagraphOnlyChangesTheSectionsAroundIt() {
+        List<String> paragraphs = paragraphs(60);
+        List<Chunk> before = chunker.split("Title", String.join("\n\n", paragraphs));
+
+        paragraphs.add(30, paragraph(1000));
+        List<Chunk> after = chunker.split("Title", String.join("\n\n", paragraphs));
+
+        assertThat(before.size()).isGreaterThan(4);
+        Set<String> changed = hashes(after);
+        changed.removeAll(hashes(before));
+        assertThat(changed.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void growingTheArticleKeepsItsEarlierSections() {
+        List<Chunk> before = chunker.split("Title", String.join("\n\n", paragraphs(60)));
+        List<Chunk> after = chunker.split("Title", String.join("\n\n", paragraphs(240)));
+
+        // Only the last section can change, since it now continues into the appended text
+        Set<String> kept = hashes(before.subList(0, before.size() - 1));
+        kept.removeAll(hashes(after));
+        assertThat(kept).isEmpty();
+        assertThat(after.size()).isGreaterThan(before.size() * 3);
+    }
+
+    @Test
+    void everySectionKeepsWithinTheTokenBudget() {
+        List<Chunk> chunks = chunker.split("Title", String.join("\n\n", paragraphs(200)));
+
+        for (Chunk chunk : chunks) {
+            assertThat(chunk.tokens()).isLessThanOrEqualTo(new AnalysisChunkConfig().getMaxChunkTokens());
+        }
+        assertThat(chunks.stream().map(Chunk::text).collect(Collectors.joining("\n\n")))
+                .isEqualTo(String.join("\n\n", paragraphs(200)));
+    }
+
+    @Test
+    void aHeadingStartsANewSection() {
+        List<Chunk> chunks = chunker.split("Title", paragraph(1) + "\n\n# Heading\n\n" + paragraph(2));
+
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(1).text()).startsWith("# Heading");
+    }
+
+    @Test
+    void theTitleIsPartOfEverySectionHash() {
+        String content = String.join("\n\n", paragraphs(60));
+
+        Set<String> original = hashes(chunker.split("Title", content));
+        Set<String> renamed = hashes(chunker.split("Another title", content));
+
+        renamed.retainAll(original);
+        assertThat(renamed).isEmpty();
+    }
+
+    private static List<String> paragraphs(int count) {
+        List<String> paragraphs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            paragraphs.add(paragraph(i));
+        }
+        return paragraphs;
+    }
+
+    // Between roughly 20 and 110 tokens of text unique to the seed
+    private static String paragraph(int seed) {
+        StringBuilder text = new StringBuilder("Paragraph " + seed + " discusses");
+        for (int i = 0; i < 10 + (seed * 7) % 40; i++) {
+            text.append(" point ").append(seed * 31 + i);
+        }
+        return text.append('.').toString();
+    }
+
+    private static Set<String> hashes(List<Chunk> chunks) {
+        return chunks.stream().map(Chunk::hash).collect(Collectors.toCollection(HashSet::new));
+    }
+}
@@ -0,0 +1,51 @@
+package com.regisx001.validationsystem.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LenientJsonExtractorTest {
+
+    static Stream<Arguments> replies() {
+        return Stream.of(
+                Arguments.of("fenced reply", "```json\n{\"a\": 1}\n```",
+                        List.of("{\"a\": 1}")),
+                Arguments.of("prose around the value", "Here you go: {\"a\": \"b\"} Hope it helps.",
+                        List.of("{\"a\": \"b\"}")),
+                Arguments.of("trailing commas", "{\"a\": 1, \"b\": [1, 2,],}",
+                        List.of("{\"a\": 1, \"b\": [1, 2]}")),
+                Arguments.of("no value at all", "I cannot analyse this article.",
+                        List.of()),
+                Arguments.of("cut mid-string", "{\"a\": 1, \"summary\": \"The arti",
+                        List.of("{\"a\": 1, \"summary\": \"The arti\"}", "{\"a\": 1}")),
+                Arguments.of("cut after an escape", "{\"s\": \"ab\\",
+                        List.of("{\"s\": \"ab\"}", "{}")),
+                Arguments.of("cut mid-number", "{\"a\": \"x\", \"confidence\": 0",
+                        List.of("{\"a\": \"x\"}")),
+                Arguments.of("cut after a whole number", "{\"a\": \"x\", \"confidence\": 0.87",
+                        List.of("{\"a\": \"x\"}")),
+                Arguments.of("cut mid-literal", "{\"a\": \"x\", \"approved\": tr",
+                        List.of("{\"a\": \"x\"}")),
+                Arguments.of("cut mid-key", "{\"a\": \"x\", \"conf",
+                        List.of("{\"a\": \"x\"}")),
+                Arguments.of("cut after a key", "{\"a\": \"x\", \"confidence\"",
+                        List.of("{\"a\": \"x\"}")),
+                Arguments.of("cut after a colon", "{\"a\": \"x\", \"b\": ",
+                        List.of("{\"a\": \"x\", \"b\":null}", "{\"a\": \"x\"}")),
+                Arguments.of("cut after a nested array", "{\"issues\": [[\"a\", 1], [\"b\", 2]",
+                        List.of("{\"issues\": [[\"a\", 1], [\"b\", 2]]}")),
+                Arguments.of("cut inside a nested array", "{\"issues\": [[\"a\", 1], [\"b\", 2",
+                        List.of("{\"issues\": [[\"a\", 1], [\"b\"]]}")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("replies")
+    void extractsCandidates(String name, String reply, List<String> expected) {
+        assertThat(LenientJsonExtractor.candidates(reply, '{')).as(name).isEqualTo(expected);
+    }
+}
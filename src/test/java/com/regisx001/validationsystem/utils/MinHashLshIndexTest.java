@@ -0,0 +1,53 @@
+package com.regisx001.validationsystem.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MinHashLshIndexTest {
+
+    private static final String ORIGINAL = "The quick brown fox jumps over the lazy dog while the farmer watches "
+            + "from the porch and the cat sleeps in the warm afternoon sun beside the old red barn";
+
+    private final MinHashLshIndex<String> index = new MinHashLshIndex<>(5, 32, 4);
+
+    @Test
+    void onlyOlderDocumentsAreMatched() {
+        index.put("original", 1, ORIGINAL);
+        index.put("copy", 2, ORIGINAL);
+
+        MinHashLshIndex.Match<String> fromCopy = index.mostSimilar(ORIGINAL, 2, "copy");
+        assertThat(fromCopy).isNotNull();
+        assertThat(fromCopy.key()).isEqualTo("original");
+        assertThat(fromCopy.similarity()).isEqualTo(1.0);
+
+        assertThat(index.mostSimilar(ORIGINAL, 1, "original")).isNull();
+    }
+
+    @Test
+    void documentsWithTheSameRankDoNotMatchEachOther() {
+        index.put("a", 5, ORIGINAL);
+        index.put("b", 5, ORIGINAL);
+
+        assertThat(index.mostSimilar(ORIGINAL, 5, "b")).isNull();
+    }
+
+    @Test
+    void textWithoutWordsIsNeitherIndexedNorMatched() {
+        index.put("blank", 1, "   \n\t ");
+        index.put("other-blank", 2, "");
+
+        assertThat(index.size()).isZero();
+        assertThat(index.signature("  ")).isNull();
+        assertThat(index.mostSimilar(" ", 10, null)).isNull();
+    }
+
+    @Test
+    void replacingADocumentWithBlankTextRemovesIt() {
+        index.put("article", 1, ORIGINAL);
+        index.put("article", 1, " ");
+
+        assertThat(index.size()).isZero();
+        assertThat(index.mostSimilar(ORIGINAL, 2, null)).isNull();
+    }
+}
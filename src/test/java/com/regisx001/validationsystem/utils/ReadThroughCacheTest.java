@@ -0,0 +1,127 @@
+package com.regisx001.validationsystem.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadThroughCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesHitsUntilInvalidated() {
+        ReadThroughCache<String, String> cache = cache(10, Duration.ofMinutes(1));
+
+        assertThat(cache.get("a", this::load)).isEqualTo("a1");
+        assertThat(cache.get("a", this::load)).isEqualTo("a1");
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.invalidate("a");
+        assertThat(cache.get("a", this::load)).isEqualTo("a2");
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() {
+        ReadThroughCache<String, String> cache = cache(10, Duration.ZERO);
+
+        cache.get("a", this::load);
+        cache.get("a", this::load);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        ReadThroughCache<String, String> cache = cache(2, Duration.ofMinutes(1));
+
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+        cache.get("c", this::load);
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.get("a", this::load);
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get("b", this::load);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void failedLoadsAreNotCached() {
+        ReadThroughCache<String, String> cache = cache(10, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> cache.get("a", key -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("a", this::load)).isEqualTo("a1");
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        ReadThroughCache<String, String> cache = cache(10, Duration.ofMinutes(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("a", key -> {
+            started.countDown();
+            await(release);
+            return load(key);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get("a", this::load));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("a1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("a1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void loadRunningAcrossAnInvalidationIsNotCachedOrJoined() throws Exception {
+        ReadThroughCache<String, String> cache = cache(10, Duration.ofMinutes(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> stale = CompletableFuture.supplyAsync(() -> cache.get("a", key -> {
+            String value = load(key);
+            started.countDown();
+            await(release);
+            return value;
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // A reader after the invalidation must not wait for, or receive, the stale load
+        cache.invalidate("a");
+        assertThat(cache.get("a", this::load)).isEqualTo("a2");
+
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("a1");
+        assertThat(cache.get("a", this::load)).isEqualTo("a2");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private String load(String key) {
+        return key + loads.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ReadThroughCache<String, String> cache(int maxEntries, Duration ttl) {
+        return new ReadThroughCache<>("test", maxEntries, ttl, new SimpleMeterRegistry());
+    }
+}